@@ -0,0 +1,136 @@
+package dev.muazmemis.finalproject.controller;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+import dev.muazmemis.finalproject.FinalProjectApplication;
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.DepartmentRepository;
+import dev.muazmemis.finalproject.repository.ProjectRepository;
+import dev.muazmemis.finalproject.repository.TaskRepository;
+import dev.muazmemis.finalproject.repository.UserRepository;
+import dev.muazmemis.finalproject.security.JwtService;
+
+/**
+ * Latency of an authenticated task read under 2,000 concurrent clients, with requests served on Tomcat's platform
+ * thread pool and on virtual threads. Each JMH thread is one client, so the sample-time percentiles (p0.99 in the
+ * output) are per-request latencies under full load. Runs against in-memory H2 by default; pass
+ * {@code -jvmArgsAppend -Dspring.datasource.url=...} to measure a real database, where request threads spend most of
+ * their time blocked, and {@code -jvmArgsAppend -Dspring.datasource.hikari.maximum-pool-size=...} to see how far the
+ * connection pool, rather than the request threads, limits throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(RequestLatencyBenchmark.CLIENTS)
+@Fork(1)
+public class RequestLatencyBenchmark {
+
+    static final int CLIENTS = 2_000;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--application.schema.index-check.enabled=false",
+                "--application.outbox.relay.enabled=false",
+                "--application.rate-limit.enabled=false",
+                "--logging.level.root=WARN"));
+        if (System.getProperty("spring.datasource.url") == null)
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:request-latency-" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password="));
+
+        context = new SpringApplicationBuilder(FinalProjectApplication.class)
+                .run(args.toArray(String[]::new));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        Department department = context.getBean(DepartmentRepository.class).save(Department.builder()
+                .name("Benchmark " + virtualThreads)
+                .active(true)
+                .build());
+        Project project = context.getBean(ProjectRepository.class).save(Project.builder()
+                .title("Benchmark")
+                .description("Request latency benchmark")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .active(true)
+                .build());
+        Task task = context.getBean(TaskRepository.class).save(Task.builder()
+                .title("Task")
+                .userStory("User Story")
+                .acceptanceCriteria("Acceptance Criteria")
+                .state(TaskState.BACKLOG)
+                .priority(TaskPriority.MEDIUM)
+                .project(project)
+                .active(true)
+                .build());
+        String token = context.getBean(JwtService.class).generateToken(context.getBean(UserRepository.class)
+                .findByUsernameAndActiveTrue("admin")
+                .orElseThrow());
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/tasks/" + task.getId()))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getTask() throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,118 @@
+package dev.muazmemis.finalproject.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.muazmemis.finalproject.FinalProjectApplication;
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+/**
+ * Rows per second for inserting 100k tasks through {@link TaskRepository#saveAll}, with the pooled sequence ids
+ * and with the previous IDENTITY mapping. Runs against in-memory H2 by default; pass
+ * {@code -jvmArgsAppend -Dspring.datasource.url=...} to measure a real database, where the round trips saved by
+ * batching matter far more.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@OperationsPerInvocation(BulkInsertBenchmark.ROWS)
+public class BulkInsertBenchmark {
+
+    static final int ROWS = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"sequence", "identity"})
+    public String idGeneration;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate transactionTemplate;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--application.schema.index-check.enabled=false",
+                "--logging.level.root=WARN"));
+        if (System.getProperty("spring.datasource.url") == null)
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:bulk-insert-" + idGeneration + ";DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password="));
+        // The identity baseline stops migrating before V11 drops the identity column defaults.
+        if (idGeneration.equals("identity"))
+            args.addAll(List.of(
+                    "--spring.jpa.mapping-resources=META-INF/identity-ids.orm.xml",
+                    "--spring.flyway.target=10"));
+
+        context = new SpringApplicationBuilder(FinalProjectApplication.class)
+                .run(args.toArray(String[]::new));
+        taskRepository = context.getBean(TaskRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        Department department = context.getBean(DepartmentRepository.class).save(Department.builder()
+                .name("Benchmark")
+                .active(true)
+                .build());
+        project = context.getBean(ProjectRepository.class).save(Project.builder()
+                .title("Benchmark")
+                .description("Bulk insert benchmark")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .active(true)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void insertTasks() {
+        for (int inserted = 0; inserted < ROWS; inserted += CHUNK_SIZE)
+            transactionTemplate.executeWithoutResult(status -> taskRepository.saveAll(chunk()));
+    }
+
+    private List<Task> chunk() {
+        List<Task> tasks = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++)
+            tasks.add(Task.builder()
+                    .title("Task " + i)
+                    .userStory("User Story")
+                    .acceptanceCriteria("Acceptance Criteria")
+                    .state(TaskState.BACKLOG)
+                    .priority(TaskPriority.MEDIUM)
+                    .project(project)
+                    .active(true)
+                    .build());
+        return tasks;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.muazmemis.finalproject.security;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86_400_000L);
+        jwtService.init();
+
+        user = User.builder()
+                .id(1L)
+                .username("admin")
+                .firstName("adminFirst")
+                .lastName("adminLast")
+                .role(Role.PROJECT_MANAGER)
+                .active(true)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean rebuildParserPerClaim() {
+        String username = legacyParse().getSubject();
+        boolean usernameMatches = legacyParse().getSubject().equals(user.getUsername());
+        boolean expired = legacyParse().getExpiration().before(new Date());
+        return username != null && usernameMatches && !expired;
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        Claims claims = jwtService.validateToken(token);
+        return claims.getSubject() != null && jwtService.isTokenValid(claims, user);
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
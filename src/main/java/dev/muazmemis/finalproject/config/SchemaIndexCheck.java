@@ -0,0 +1,91 @@
+package dev.muazmemis.finalproject.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.schema.index-check.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexCheck {
+
+    static final Map<String, List<String>> EXPECTED_INDEXES = Map.of(
+            "users", List.of("idx_users_active"),
+            "departments", List.of("idx_departments_active"),
+            "projects", List.of("idx_projects_department_id", "idx_projects_active", "idx_projects_department_active"),
+            "project_team_members", List.of("idx_project_team_members_user_id"),
+            "tasks", List.of("idx_tasks_project_state_active", "idx_tasks_assignee_id", "idx_tasks_active",
+                    "idx_tasks_project_active", "idx_tasks_assignee_active"),
+            "comments", List.of("idx_comments_task_id", "idx_comments_task_active", "idx_comments_task_created_active"),
+            "attachments", List.of("idx_attachments_task_id", "idx_attachments_task_active",
+                    "idx_attachments_content_hash_active"),
+            "outbox_events", List.of("idx_outbox_events_pending", "idx_outbox_events_aggregate_sequence"));
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        try {
+            List<String> missing = findMissingIndexes();
+            if (missing.isEmpty())
+                log.info("All expected database indexes are present");
+            else
+                missing.forEach(index -> log.warn("Expected database index is missing: {}", index));
+        } catch (SQLException e) {
+            log.warn("Could not verify database indexes", e);
+        }
+    }
+
+    List<String> findMissingIndexes() throws SQLException {
+        List<String> missing = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, List<String>> entry : EXPECTED_INDEXES.entrySet()) {
+                Set<String> present = findIndexes(connection, metaData, entry.getKey());
+                entry.getValue().stream()
+                        .filter(index -> !present.contains(index))
+                        .map(index -> entry.getKey() + "." + index)
+                        .forEach(missing::add);
+            }
+        }
+
+        missing.sort(null);
+        return missing;
+    }
+
+    private Set<String> findIndexes(Connection connection, DatabaseMetaData metaData, String table)
+            throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Set<String> indexes = new HashSet<>();
+
+        try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName,
+                false, true)) {
+            while (resultSet.next()) {
+                String indexName = resultSet.getString("INDEX_NAME");
+                if (indexName != null)
+                    indexes.add(indexName.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        return indexes;
+    }
+}
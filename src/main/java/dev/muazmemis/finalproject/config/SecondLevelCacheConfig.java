@@ -0,0 +1,81 @@
+package dev.muazmemis.finalproject.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import dev.muazmemis.finalproject.constant.CacheRegions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+@Configuration
+@ConditionalOnProperty(name = "application.cache.second-level.enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    @Value("${application.cache.second-level.departments.maximum-size:1000}")
+    private long departmentsMaximumSize;
+
+    @Value("${application.cache.second-level.departments.ttl:1h}")
+    private Duration departmentsTtl;
+
+    @Value("${application.cache.second-level.projects.maximum-size:10000}")
+    private long projectsMaximumSize;
+
+    @Value("${application.cache.second-level.projects.ttl:10m}")
+    private Duration projectsTtl;
+
+    @Value("${application.cache.second-level.users.maximum-size:10000}")
+    private long usersMaximumSize;
+
+    @Value("${application.cache.second-level.users.ttl:10m}")
+    private Duration usersTtl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(MeterRegistry meterRegistry) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("second-level-" + System.identityHashCode(this)), provider.getDefaultClassLoader());
+
+        createRegion(cacheManager, meterRegistry, CacheRegions.DEPARTMENTS, departmentsMaximumSize, departmentsTtl);
+        createRegion(cacheManager, meterRegistry, CacheRegions.PROJECTS, projectsMaximumSize, projectsTtl);
+        createRegion(cacheManager, meterRegistry, CacheRegions.USERS, usersMaximumSize, usersTtl);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, MeterRegistry meterRegistry, String region,
+                              long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+
+        Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+        JCacheMetrics.monitor(meterRegistry, cache);
+    }
+}
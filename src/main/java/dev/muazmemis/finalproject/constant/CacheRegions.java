@@ -0,0 +1,13 @@
+package dev.muazmemis.finalproject.constant;
+
+public final class CacheRegions {
+
+    private CacheRegions() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static final String DEPARTMENTS = "departments";
+    public static final String PROJECTS = "projects";
+    public static final String USERS = "users";
+
+}
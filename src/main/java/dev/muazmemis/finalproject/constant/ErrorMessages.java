@@ -13,6 +13,19 @@ public final class ErrorMessages {
     public static final String DEPARTMENT_NAME_EXISTS = "Department name already exists: %s";
     public static final String PROJECT_NOT_FOUND = "Project not found: %s";
     public static final String TASK_NOT_FOUND = "Task not found: %s";
+    public static final String BULK_UPDATE_ABORTED = "Not applied: another item in the batch failed";
+    public static final String EXPORT_SCOPE_REQUIRED = "Exactly one of projectId or departmentId must be given";
+    public static final String EXPORT_CSV_CHILDREN = "Comments and attachments can only be exported as NDJSON";
+    public static final String IMPORT_NOT_FOUND = "Import not found: %s";
+    public static final String IMPORT_QUEUE_FULL = "Too many imports are in progress. Please try again later.";
+    public static final String RATE_LIMITED = "Too many requests. Please slow down and try again later.";
+    public static final String PASSWORD_HASHING_BUSY = "Too many sign-ins are in progress. Please try again shortly.";
+    public static final String SEARCH_QUERY_REQUIRED = "Search query must not be blank";
+    public static final String INVALID_CURSOR = "Invalid page cursor: %s";
+    public static final String INVALID_IF_MATCH = "Invalid If-Match header: %s";
+    public static final String WEAK_IF_MATCH = "If-Match requires a strong entity tag: %s";
+    public static final String VERSION_MISMATCH = "%s %d has changed: expected version %d but it is at version %d";
+    public static final String CONCURRENT_MODIFICATION = "The resource was changed by another request. Reload it and try again.";
     public static final String ACCESS_DENIED = "You do not have the necessary role to perform this action";
     public static final String UNEXPECTED_ERROR = "An unexpected error occurred. Please try again later.";
 
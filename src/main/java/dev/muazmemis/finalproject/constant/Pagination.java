@@ -0,0 +1,19 @@
+package dev.muazmemis.finalproject.constant;
+
+public final class Pagination {
+
+    private Pagination() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static int resolvePageSize(Integer size) {
+        if (size == null || size < 1)
+            return DEFAULT_PAGE_SIZE;
+
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+}
@@ -1,8 +1,13 @@
 package dev.muazmemis.finalproject.controller;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import dev.muazmemis.finalproject.dto.attachment.AttachmentDownload;
 import dev.muazmemis.finalproject.dto.attachment.AttachmentRequest;
 import dev.muazmemis.finalproject.dto.attachment.AttachmentResponse;
 import dev.muazmemis.finalproject.service.AttachmentService;
@@ -50,6 +56,23 @@ public class AttachmentController {
         return ResponseEntity.ok(attachmentService.getByAttachmentId(id));
     }
 
+    @GetMapping("/{id}/content")
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    @Operation(summary = "Download an attachment", description = "Download the file of an attachment. Supports Range requests and conditional GET with If-None-Match and If-Modified-Since.")
+    public ResponseEntity<Resource> downloadAttachment(@PathVariable Long id) throws IOException {
+        AttachmentDownload download = attachmentService.getAttachmentDownload(id);
+
+        return ResponseEntity.ok()
+                .contentType(resolveMediaType(download.fileType()))
+                .eTag(download.eTag())
+                .lastModified(download.lastModified())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(download.fileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(download.resource());
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
     @Operation(summary = "Delete an attachment", description = "Delete an attachment by its ID")
@@ -58,4 +81,11 @@ public class AttachmentController {
         return ResponseEntity.noContent().build();
     }
 
+    private MediaType resolveMediaType(String fileType) {
+        try {
+            return fileType != null ? MediaType.parseMediaType(fileType) : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
 }
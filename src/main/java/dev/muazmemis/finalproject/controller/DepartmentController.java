@@ -2,6 +2,7 @@ package dev.muazmemis.finalproject.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,10 +13,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import dev.muazmemis.finalproject.dto.department.DepartmentRequest;
 import dev.muazmemis.finalproject.dto.department.DepartmentResponse;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
 import dev.muazmemis.finalproject.service.DepartmentService;
+import dev.muazmemis.finalproject.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -38,9 +42,15 @@ public class DepartmentController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    @Operation(summary = "Get a department by ID", description = "Get a department's details by its ID")
-    public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id) {
-        return ResponseEntity.ok(departmentService.getDepartmentById(id));
+    @Operation(summary = "Get a department by ID", description = "Get a department's details by its ID. Send the returned ETag in If-None-Match to get 304 Not Modified while it is unchanged.")
+    public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion resource = departmentService.getDepartmentVersion(id);
+        if (request.checkNotModified(ETagUtils.toWeakETag(resource), ETagUtils.toLastModified(resource)))
+            return null;
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(departmentService.getDepartmentById(id));
     }
 
     @GetMapping
@@ -3,11 +3,16 @@ package dev.muazmemis.finalproject.controller;
 import java.util.List;
 
 import dev.muazmemis.finalproject.dto.project.*;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
 import dev.muazmemis.finalproject.service.ProjectService;
+import dev.muazmemis.finalproject.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -30,9 +35,15 @@ public class ProjectController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    @Operation(summary = "Get a project by ID", description = "Get a project's details by its ID")
-    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProjectById(id));
+    @Operation(summary = "Get a project by ID", description = "Get a project's details by its ID. Send the returned ETag in If-None-Match to get 304 Not Modified while it is unchanged.")
+    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion resource = projectService.getProjectVersion(id);
+        if (request.checkNotModified(ETagUtils.toWeakETag(resource), ETagUtils.toLastModified(resource)))
+            return null;
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(projectService.getProjectById(id));
     }
 
     @GetMapping
@@ -51,20 +62,24 @@ public class ProjectController {
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('PROJECT_MANAGER')")
-    @Operation(summary = "Update a project", description = "Update a project's details by its ID")
+    @Operation(summary = "Update a project", description = "Update a project's details by its ID. Send the project's ETag in If-Match to fail with 412 if it has changed since it was read.")
     public ResponseEntity<ProjectResponse> updateProject(
             @PathVariable Long id,
-            @RequestBody @Valid ProjectUpdateRequest request) {
-        return ResponseEntity.ok(projectService.updateProject(id, request));
+            @RequestBody @Valid ProjectUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectResponse response = projectService.updateProject(id, request, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.toETag(response.version())).body(response);
     }
 
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('PROJECT_MANAGER')")
-    @Operation(summary = "Update project status", description = "Update a project's status by its ID")
+    @Operation(summary = "Update project status", description = "Update a project's status by its ID. Send the project's ETag in If-Match to fail with 412 if it has changed since it was read.")
     public ResponseEntity<ProjectResponse> updateProjectStatus(
             @PathVariable Long id,
-            @RequestBody @Valid ProjectStatusUpdateRequest request) {
-        return ResponseEntity.ok(projectService.updateProductStatus(id, request));
+            @RequestBody @Valid ProjectStatusUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectResponse response = projectService.updateProductStatus(id, request, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.toETag(response.version())).body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -1,18 +1,49 @@
 package dev.muazmemis.finalproject.controller;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import dev.muazmemis.finalproject.dto.comment.CommentResponse;
+import dev.muazmemis.finalproject.dto.common.CursorPageResponse;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateRequest;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateResponse;
+import dev.muazmemis.finalproject.dto.task.TaskExportRequest;
+import dev.muazmemis.finalproject.dto.task.TaskFilter;
+import dev.muazmemis.finalproject.dto.task.TaskImportStatus;
 import dev.muazmemis.finalproject.dto.task.TaskRequest;
 import dev.muazmemis.finalproject.dto.task.TaskResponse;
+import dev.muazmemis.finalproject.dto.task.TaskSearchQuery;
+import dev.muazmemis.finalproject.dto.task.TaskSearchResult;
 import dev.muazmemis.finalproject.dto.task.TaskStateUpdateRequest;
+import dev.muazmemis.finalproject.dto.task.TaskTransitionsResponse;
 import dev.muazmemis.finalproject.dto.task.TaskUpdateRequest;
+import dev.muazmemis.finalproject.model.enums.DataFormat;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
+import dev.muazmemis.finalproject.service.CommentService;
+import dev.muazmemis.finalproject.service.TaskExportService;
+import dev.muazmemis.finalproject.service.TaskFeedService;
+import dev.muazmemis.finalproject.service.TaskImportService;
+import dev.muazmemis.finalproject.service.TaskSearchService;
 import dev.muazmemis.finalproject.service.TaskService;
+import dev.muazmemis.finalproject.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -25,6 +56,11 @@ import lombok.RequiredArgsConstructor;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskSearchService taskSearchService;
+    private final CommentService commentService;
+    private final TaskFeedService taskFeedService;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER')")
@@ -33,36 +69,151 @@ public class TaskController {
         return ResponseEntity.ok(taskService.saveTask(request));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER')")
+    @Operation(summary = "Import tasks", description = "Queue an NDJSON or CSV file of tasks for import. The file is processed in the background; poll the returned import for progress and per-row errors.")
+    public ResponseEntity<TaskImportStatus> importTasks(
+            @RequestParam MultipartFile file,
+            @RequestParam(defaultValue = "NDJSON") DataFormat format) throws IOException {
+        TaskImportStatus status = taskImportService.submitImport(file, format);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(status.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(status);
+    }
+
+    @GetMapping("/import/{id}")
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER')")
+    @Operation(summary = "Get import progress", description = "Get the progress and per-row errors of a task import")
+    public ResponseEntity<TaskImportStatus> getImportStatus(@PathVariable UUID id) {
+        return ResponseEntity.ok(taskImportService.getImportStatus(id));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    @Operation(summary = "Get a task by ID", description = "Get a task's details by its ID")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    @Operation(summary = "Get a task by ID", description = "Get a task's details by its ID. Send the returned ETag in If-None-Match to get 304 Not Modified while it is unchanged.")
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion resource = taskService.getTaskVersion(id);
+        if (request.checkNotModified(ETagUtils.toWeakETag(resource), ETagUtils.toLastModified(resource)))
+            return null;
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(taskService.getTaskById(id));
+    }
+
+    @GetMapping("/{id}/transitions")
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    @Operation(summary = "Get allowed state transitions", description = "Get the states a task can move to from its current state")
+    public ResponseEntity<TaskTransitionsResponse> getAllowedTransitions(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.getAllowedTransitions(id));
+    }
+
+    @GetMapping("/{id}/comments")
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    @Operation(summary = "Get a task's comments", description = "Get a page of a task's comments, oldest first. Pass the returned nextCursor to fetch the following page.")
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getTaskComments(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(commentService.getTaskComments(id, cursor, size));
+    }
+
+    @GetMapping("/transitions")
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    @Operation(summary = "Get allowed state transitions in bulk", description = "Get the states each of the given tasks can move to. Unknown or deleted task IDs are omitted.")
+    public ResponseEntity<List<TaskTransitionsResponse>> getAllowedTransitions(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(taskService.getAllowedTransitions(ids));
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    @Operation(summary = "Get all tasks", description = "Get a list of all tasks")
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    @Operation(summary = "Get tasks", description = "Get a page of tasks ordered by ID, optionally filtered by project, assignee, state and priority. Pass the returned nextCursor to fetch the following page.")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getTasks(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) TaskState state,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        TaskFilter filter = new TaskFilter(projectId, assigneeId, state, priority);
+        return ResponseEntity.ok(taskService.getTasks(filter, cursor, size));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    @Operation(summary = "Search tasks", description = "Full-text search over task titles, user stories, acceptance criteria and comments, ordered by relevance and optionally filtered by project and state. Pass the returned nextCursor to fetch the following page.")
+    public ResponseEntity<CursorPageResponse<TaskSearchResult>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) TaskState state,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        TaskSearchQuery query = new TaskSearchQuery(q, projectId, state);
+        return ResponseEntity.ok(taskSearchService.searchTasks(query, cursor, size));
+    }
+
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    @Operation(summary = "Subscribe to task changes", description = "Stream task created, updated, state-changed and deleted events as Server-Sent Events, optionally for a single project. Reconnect with Last-Event-ID to resume; a reset event means changes were missed and the tasks should be reloaded.")
+    public SseEmitter subscribeToTaskChanges(
+            @RequestParam(required = false) Long projectId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return taskFeedService.subscribe(projectId, lastEventId);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    @Operation(summary = "Export tasks", description = "Stream every task of a project or department as NDJSON or CSV. NDJSON lines can also carry the tasks' comments and attachment metadata.")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "NDJSON") DataFormat format,
+            @RequestParam(defaultValue = "false") boolean includeComments,
+            @RequestParam(defaultValue = "false") boolean includeAttachments) {
+        TaskExportRequest request = new TaskExportRequest(projectId, departmentId, format, includeComments,
+                includeAttachments);
+        taskExportService.validateExport(request);
+
+        boolean csv = format == DataFormat.CSV;
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename(csv ? "tasks.csv" : "tasks.ndjson")
+                .build();
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(outputStream -> taskExportService.exportTasks(request, outputStream));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER')")
-    @Operation(summary = "Update a task", description = "Update a task's details by its ID")
+    @Operation(summary = "Update a task", description = "Update a task's details by its ID. Send the task's ETag in If-Match to fail with 412 if it has changed since it was read.")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
-            @RequestBody @Valid TaskUpdateRequest request) {
-        return ResponseEntity.ok(taskService.updateTask(id, request));
+            @RequestBody @Valid TaskUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse response = taskService.updateTask(id, request, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.toETag(response.version())).body(response);
     }
 
     @PatchMapping("/{id}/state")
     @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
-    @Operation(summary = "Update task state", description = "Update a task's state by its ID")
+    @Operation(summary = "Update task state", description = "Update a task's state by its ID. Send the task's ETag in If-Match to fail with 412 if it has changed since it was read.")
     public ResponseEntity<TaskResponse> updateTaskState(
             @PathVariable Long id,
-            @RequestBody @Valid TaskStateUpdateRequest request) {
-        return ResponseEntity.ok(taskService.updateTaskState(id, request));
+            @RequestBody @Valid TaskStateUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse response = taskService.updateTaskState(id, request, ETagUtils.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.toETag(response.version())).body(response);
+    }
+
+    @PatchMapping("/state")
+    @PreAuthorize("hasAnyRole('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')")
+    @Operation(summary = "Update task states in bulk", description = "Apply many state transitions in one request and report the outcome of each. With atomic set, nothing is applied unless every transition is valid.")
+    public ResponseEntity<TaskBulkStateUpdateResponse> updateTaskStates(
+            @RequestBody @Valid TaskBulkStateUpdateRequest request) {
+        return ResponseEntity.ok(taskService.updateTaskStates(request));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,14 @@
+package dev.muazmemis.finalproject.dto.attachment;
+
+import java.time.Instant;
+
+import org.springframework.core.io.Resource;
+
+public record AttachmentDownload(
+        String fileName,
+        String fileType,
+        Resource resource,
+        String eTag,
+        Instant lastModified
+) {
+}
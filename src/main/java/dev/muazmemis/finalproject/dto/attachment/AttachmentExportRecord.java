@@ -0,0 +1,14 @@
+package dev.muazmemis.finalproject.dto.attachment;
+
+import java.time.LocalDateTime;
+
+public record AttachmentExportRecord(
+        Long id,
+        String fileName,
+        String fileType,
+        Long fileSize,
+        String contentHash,
+        Long userId,
+        LocalDateTime createdAt
+) {
+}
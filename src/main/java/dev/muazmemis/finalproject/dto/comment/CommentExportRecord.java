@@ -0,0 +1,11 @@
+package dev.muazmemis.finalproject.dto.comment;
+
+import java.time.LocalDateTime;
+
+public record CommentExportRecord(
+        Long id,
+        String content,
+        Long userId,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,10 @@
+package dev.muazmemis.finalproject.dto.common;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
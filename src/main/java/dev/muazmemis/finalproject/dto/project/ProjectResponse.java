@@ -11,7 +11,8 @@ public record ProjectResponse(
         ProjectStatus status,
         String departmentName,
         List<Long> taskIds,
-        List<Long> teamMemberIds
+        List<Long> teamMemberIds,
+        long version
 ) {
 
 }
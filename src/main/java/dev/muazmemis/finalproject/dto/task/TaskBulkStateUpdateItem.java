@@ -0,0 +1,13 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskBulkStateUpdateItem(
+        @NotNull(message = "Task ID is required")
+        Long taskId,
+        @NotNull(message = "State is required")
+        TaskState state,
+        String reason
+) {
+}
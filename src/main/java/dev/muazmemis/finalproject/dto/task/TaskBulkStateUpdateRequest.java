@@ -0,0 +1,15 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record TaskBulkStateUpdateRequest(
+        @NotEmpty(message = "Items are required")
+        @Size(max = 500, message = "At most 500 items can be updated at once")
+        List<@Valid TaskBulkStateUpdateItem> items,
+        boolean atomic
+) {
+}
@@ -0,0 +1,10 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import java.util.List;
+
+public record TaskBulkStateUpdateResponse(
+        int updated,
+        int failed,
+        List<TaskBulkStateUpdateResult> results
+) {
+}
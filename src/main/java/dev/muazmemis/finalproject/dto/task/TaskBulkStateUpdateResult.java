@@ -0,0 +1,11 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+public record TaskBulkStateUpdateResult(
+        Long taskId,
+        TaskState state,
+        boolean updated,
+        String error
+) {
+}
@@ -0,0 +1,15 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import java.time.LocalDateTime;
+
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+public record TaskChangeMessage(
+        ChangeType type,
+        Long taskId,
+        Long projectId,
+        TaskState state,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,33 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dev.muazmemis.finalproject.dto.attachment.AttachmentExportRecord;
+import dev.muazmemis.finalproject.dto.comment.CommentExportRecord;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+public record TaskExportRecord(
+        Long id,
+        String title,
+        String userStory,
+        String acceptanceCriteria,
+        TaskState state,
+        TaskPriority priority,
+        String stateChangeReason,
+        Long projectId,
+        Long assigneeId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<CommentExportRecord> comments,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<AttachmentExportRecord> attachments
+) {
+
+    public TaskExportRecord withChildren(List<CommentExportRecord> comments, List<AttachmentExportRecord> attachments) {
+        return new TaskExportRecord(id, title, userStory, acceptanceCriteria, state, priority, stateChangeReason,
+                projectId, assigneeId, createdAt, updatedAt, comments, attachments);
+    }
+}
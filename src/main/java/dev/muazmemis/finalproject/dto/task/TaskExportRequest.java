@@ -0,0 +1,12 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import dev.muazmemis.finalproject.model.enums.DataFormat;
+
+public record TaskExportRequest(
+        Long projectId,
+        Long departmentId,
+        DataFormat format,
+        boolean includeComments,
+        boolean includeAttachments
+) {
+}
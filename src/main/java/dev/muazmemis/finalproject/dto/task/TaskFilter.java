@@ -0,0 +1,12 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+public record TaskFilter(
+        Long projectId,
+        Long assigneeId,
+        TaskState state,
+        TaskPriority priority
+) {
+}
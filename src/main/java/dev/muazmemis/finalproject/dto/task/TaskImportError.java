@@ -0,0 +1,7 @@
+package dev.muazmemis.finalproject.dto.task;
+
+public record TaskImportError(
+        long row,
+        String message
+) {
+}
@@ -0,0 +1,20 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import dev.muazmemis.finalproject.model.enums.TaskImportState;
+
+public record TaskImportStatus(
+        UUID id,
+        TaskImportState state,
+        long processed,
+        long imported,
+        long failed,
+        List<TaskImportError> errors,
+        String error,
+        LocalDateTime submittedAt,
+        LocalDateTime finishedAt
+) {
+}
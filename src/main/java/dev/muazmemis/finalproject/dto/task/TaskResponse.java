@@ -16,6 +16,7 @@ public record TaskResponse (
         Long projectId,
         Long assigneeId,
         List<Long> commentIds,
-        List<Long> attachmentIds
+        List<Long> attachmentIds,
+        long version
 ) {
 }
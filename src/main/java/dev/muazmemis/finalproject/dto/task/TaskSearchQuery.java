@@ -0,0 +1,10 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+public record TaskSearchQuery(
+        String text,
+        Long projectId,
+        TaskState state
+) {
+}
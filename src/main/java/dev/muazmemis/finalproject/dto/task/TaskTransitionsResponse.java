@@ -0,0 +1,12 @@
+package dev.muazmemis.finalproject.dto.task;
+
+import java.util.Set;
+
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+public record TaskTransitionsResponse(
+        Long taskId,
+        TaskState state,
+        Set<TaskState> allowedStates
+) {
+}
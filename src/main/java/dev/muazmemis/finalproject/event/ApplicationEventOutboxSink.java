@@ -0,0 +1,28 @@
+package dev.muazmemis.finalproject.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Republishes relayed outbox messages as {@link OutboxMessage} application events for in-process listeners.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.outbox.sinks.events.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String name() {
+        return "events";
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+        eventPublisher.publishEvent(message);
+    }
+}
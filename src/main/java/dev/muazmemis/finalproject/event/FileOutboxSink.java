@@ -0,0 +1,49 @@
+package dev.muazmemis.finalproject.event;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends relayed outbox messages to a file, one JSON object per line.
+ */
+@Component
+@ConditionalOnProperty(name = "application.outbox.sinks.file.enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    // Not synchronized: file I/O inside a monitor pins a virtual thread to its carrier.
+    private final Lock lock = new ReentrantLock();
+
+    public FileOutboxSink(ObjectMapper objectMapper, @Value("${application.outbox.sinks.file.path}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void publish(OutboxMessage message) throws IOException {
+        String line = objectMapper.writeValueAsString(message) + "\n";
+        lock.lock();
+        try {
+            Files.writeString(path, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package dev.muazmemis.finalproject.event;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+
+public record OutboxMessage(
+        Long id,
+        AggregateType aggregateType,
+        Long aggregateId,
+        ChangeType eventType,
+        @JsonRawValue
+        String payload,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,12 @@
+package dev.muazmemis.finalproject.event;
+
+/**
+ * Destination for relayed outbox messages. Delivery is at-least-once: a message is retried until every sink has
+ * accepted it in the same relay pass, so sinks may see a message more than once and should deduplicate on its id.
+ */
+public interface OutboxSink {
+
+    String name();
+
+    void publish(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,12 @@
+package dev.muazmemis.finalproject.event;
+
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+public record TaskChangeEvent(
+        ChangeType type,
+        Long taskId,
+        Long projectId,
+        TaskState state
+) {
+}
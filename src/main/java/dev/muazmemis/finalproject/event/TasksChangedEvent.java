@@ -0,0 +1,8 @@
+package dev.muazmemis.finalproject.event;
+
+import java.util.Collection;
+
+public record TasksChangedEvent(
+        Collection<Long> taskIds
+) {
+}
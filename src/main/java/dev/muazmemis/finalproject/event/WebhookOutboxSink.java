@@ -0,0 +1,50 @@
+package dev.muazmemis.finalproject.event;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * POSTs each relayed outbox message to a webhook. Any non-2xx response counts as a failure and the message is
+ * retried; receivers can deduplicate on the {@value #EVENT_ID_HEADER} header.
+ */
+@Component
+@ConditionalOnProperty(name = "application.outbox.sinks.webhook.url")
+public class WebhookOutboxSink implements OutboxSink {
+
+    static final String EVENT_ID_HEADER = "X-Outbox-Event-Id";
+
+    private final RestClient restClient;
+
+    public WebhookOutboxSink(RestClient.Builder restClientBuilder,
+                             @Value("${application.outbox.sinks.webhook.url}") String url,
+                             @Value("${application.outbox.sinks.webhook.timeout:5s}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+        restClient.post()
+                .header(EVENT_ID_HEADER, String.valueOf(message.id()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(message)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,7 @@
+package dev.muazmemis.finalproject.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
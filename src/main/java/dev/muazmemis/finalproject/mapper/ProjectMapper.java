@@ -1,6 +1,7 @@
 package dev.muazmemis.finalproject.mapper;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.mapstruct.Mapper;
@@ -13,13 +14,13 @@ import dev.muazmemis.finalproject.dto.project.ProjectUpdateRequest;
 import dev.muazmemis.finalproject.model.entity.Project;
 import org.mapstruct.ReportingPolicy;
 
-@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = "spring", imports = Collections.class)
+@Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = "spring", imports = {Collections.class, HashSet.class})
 public interface ProjectMapper {
 
     @Mapping(target = "status", constant = "IN_PROGRESS")
     @Mapping(target = "active", constant = "true")
     @Mapping(target = "tasks", expression = "java(new ArrayList<>())")
-    @Mapping(target = "teamMembers", expression = "java(new ArrayList<>())")
+    @Mapping(target = "teamMembers", expression = "java(new HashSet<>())")
     Project toEntity(ProjectRequest request);
 
     @Mapping(target = "departmentName", source = "department.name")
@@ -27,6 +28,11 @@ public interface ProjectMapper {
     @Mapping(target = "teamMemberIds", expression = "java(project.getTeamMembers() != null ? project.getTeamMembers().stream().map(user -> user.getId()).toList() : Collections.emptyList())")
     ProjectResponse toResponse(Project project);
 
+    @Mapping(target = "departmentName", source = "project.department.name")
+    @Mapping(target = "taskIds", source = "taskIds")
+    @Mapping(target = "teamMemberIds", source = "teamMemberIds")
+    ProjectResponse toResponse(Project project, List<Long> taskIds, List<Long> teamMemberIds);
+
     List<ProjectResponse> toResponseList(List<Project> projects);
 
     void updateEntity(@MappingTarget Project project, ProjectUpdateRequest request);
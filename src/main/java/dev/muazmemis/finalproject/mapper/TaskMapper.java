@@ -7,6 +7,7 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.ReportingPolicy;
 
+import dev.muazmemis.finalproject.dto.task.TaskImportRow;
 import dev.muazmemis.finalproject.dto.task.TaskRequest;
 import dev.muazmemis.finalproject.dto.task.TaskResponse;
 import dev.muazmemis.finalproject.dto.task.TaskUpdateRequest;
@@ -21,6 +22,12 @@ public interface TaskMapper {
     @Mapping(target = "attachments", expression = "java(new ArrayList<>())")
     Task toEntity(TaskRequest request);
 
+    @Mapping(target = "state", source = "state", defaultValue = "BACKLOG")
+    @Mapping(target = "active", constant = "true")
+    @Mapping(target = "comments", expression = "java(new ArrayList<>())")
+    @Mapping(target = "attachments", expression = "java(new ArrayList<>())")
+    Task toEntity(TaskImportRow row);
+
     @Mapping(target = "projectId", source = "project.id")
     @Mapping(target = "assigneeId", source = "assignee.id")
     @Mapping(target = "commentIds", expression = "java(task.getComments().stream().filter(comment -> comment.isActive()).map(comment -> comment.getId()).toList())")
@@ -29,6 +36,12 @@ public interface TaskMapper {
 
     List<TaskResponse> toResponseList(List<Task> tasks);
 
+    @Mapping(target = "projectId", source = "task.project.id")
+    @Mapping(target = "assigneeId", source = "task.assignee.id")
+    @Mapping(target = "commentIds", source = "commentIds")
+    @Mapping(target = "attachmentIds", source = "attachmentIds")
+    TaskResponse toResponse(Task task, List<Long> commentIds, List<Long> attachmentIds);
+
     void updateEntity(@MappingTarget Task task, TaskUpdateRequest request);
 
 }
@@ -0,0 +1,44 @@
+package dev.muazmemis.finalproject.mapper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import dev.muazmemis.finalproject.dto.task.TaskResponse;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.repository.AttachmentRepository;
+import dev.muazmemis.finalproject.repository.CommentRepository;
+import dev.muazmemis.finalproject.repository.projection.TaskChildIdView;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TaskResponseAssembler {
+
+    private final TaskMapper taskMapper;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+
+    public List<TaskResponse> toResponseList(List<Task> tasks) {
+        if (tasks.isEmpty())
+            return Collections.emptyList();
+
+        List<Long> taskIds = tasks.stream().map(Task::getId).toList();
+        Map<Long, List<Long>> commentIds = groupByTaskId(commentRepository.findActiveIdsByTaskIds(taskIds));
+        Map<Long, List<Long>> attachmentIds = groupByTaskId(attachmentRepository.findActiveIdsByTaskIds(taskIds));
+
+        return tasks.stream()
+                .map(task -> taskMapper.toResponse(task,
+                        commentIds.getOrDefault(task.getId(), Collections.emptyList()),
+                        attachmentIds.getOrDefault(task.getId(), Collections.emptyList())))
+                .toList();
+    }
+
+    private Map<Long, List<Long>> groupByTaskId(List<TaskChildIdView> rows) {
+        return rows.stream().collect(Collectors.groupingBy(TaskChildIdView::getTaskId,
+                Collectors.mapping(TaskChildIdView::getId, Collectors.toList())));
+    }
+}
@@ -14,6 +14,8 @@ import java.util.List;
 @Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = "spring")
 public interface UserMapper {
 
+    String MASKED_PASSWORD = "***";
+
     @Mapping(target = "active", constant = "true")
     User toEntity(UserRequest userRequest);
 
@@ -24,7 +26,7 @@ public interface UserMapper {
 
     User toEntity(UserResponse userResponse);
 
-    @Mapping(target = "password", constant = "***")
+    @Mapping(target = "password", constant = MASKED_PASSWORD)
     UserResponse toResponse(User user);
 
     List<UserResponse> toResponseList(List<User> users);
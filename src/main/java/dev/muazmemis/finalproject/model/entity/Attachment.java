@@ -33,6 +33,9 @@ public class Attachment extends BaseEntity {
     @Column(nullable = false)
     private Long fileSize;
 
+    @Column(length = 64)
+    private String contentHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id")
     private Task task;
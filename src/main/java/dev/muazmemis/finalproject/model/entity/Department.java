@@ -2,6 +2,11 @@ package dev.muazmemis.finalproject.model.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import dev.muazmemis.finalproject.constant.CacheRegions;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -16,6 +21,8 @@ import lombok.experimental.SuperBuilder;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEPARTMENTS)
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
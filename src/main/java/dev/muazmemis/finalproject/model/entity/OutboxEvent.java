@@ -0,0 +1,72 @@
+package dev.muazmemis.finalproject.model.entity;
+
+import java.time.LocalDateTime;
+
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A change written in the same transaction as the change itself, waiting to be relayed to the outbox sinks.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    public static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AggregateType aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    // Orders the pending events of one aggregate; starts again at 1 once all of them have been purged.
+    @Column(nullable = false)
+    private Long aggregateSequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType eventType;
+
+    // Unbounded text: a project's payload lists all of its task ids.
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime parkedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+}
@@ -1,8 +1,14 @@
 package dev.muazmemis.finalproject.model.entity;
 
 import java.util.List;
+import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import dev.muazmemis.finalproject.constant.CacheRegions;
 import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,6 +21,8 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,6 +32,8 @@ import lombok.experimental.SuperBuilder;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROJECTS)
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,10 +54,18 @@ public class Project extends BaseEntity {
     @JoinColumn(name = "department_id", nullable = false)
     private Department department;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long openTaskCount;
+
+    @Version
+    private long version;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL)
     private List<Task> tasks;
 
     @ManyToMany
     @JoinTable(name = "project_team_members", joinColumns = @JoinColumn(name = "project_id"), inverseJoinColumns = @JoinColumn(name = "user_id"))
-    private List<User> teamMembers;
+    private Set<User> teamMembers;
 }
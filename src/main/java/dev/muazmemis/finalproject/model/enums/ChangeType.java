@@ -0,0 +1,8 @@
+package dev.muazmemis.finalproject.model.enums;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    STATE_CHANGED,
+    DELETED
+}
@@ -0,0 +1,6 @@
+package dev.muazmemis.finalproject.model.enums;
+
+public enum DataFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,8 @@
+package dev.muazmemis.finalproject.model.enums;
+
+public enum TaskImportState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,10 +1,45 @@
 package dev.muazmemis.finalproject.model.enums;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum TaskState {
     BACKLOG,
     IN_ANALYSIS,
     IN_PROGRESS,
     BLOCKED,
     CANCELLED,
-    COMPLETED
-} 
\ No newline at end of file
+    COMPLETED;
+
+    private static final Map<TaskState, Set<TaskState>> TRANSITIONS = new EnumMap<>(TaskState.class);
+
+    static {
+        allow(BACKLOG, IN_ANALYSIS, CANCELLED);
+        allow(IN_ANALYSIS, BACKLOG, IN_PROGRESS, BLOCKED, CANCELLED);
+        allow(IN_PROGRESS, IN_ANALYSIS, COMPLETED, BLOCKED, CANCELLED);
+        allow(BLOCKED, BACKLOG, IN_ANALYSIS, IN_PROGRESS, CANCELLED, COMPLETED);
+        allow(CANCELLED, BACKLOG, IN_ANALYSIS, IN_PROGRESS, CANCELLED, COMPLETED);
+        allow(COMPLETED);
+    }
+
+    public Set<TaskState> allowedTransitions() {
+        return TRANSITIONS.get(this);
+    }
+
+    public boolean canTransitionTo(TaskState target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    public boolean requiresReason() {
+        return this == BLOCKED || this == CANCELLED;
+    }
+
+    private static void allow(TaskState from, TaskState... targets) {
+        EnumSet<TaskState> allowed = EnumSet.noneOf(TaskState.class);
+        Collections.addAll(allowed, targets);
+        TRANSITIONS.put(from, Collections.unmodifiableSet(allowed));
+    }
+}
@@ -1,15 +1,23 @@
 package dev.muazmemis.finalproject.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import dev.muazmemis.finalproject.model.entity.Attachment;
+import dev.muazmemis.finalproject.repository.projection.TaskChildIdView;
 
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
     List<Attachment> findAllByActiveTrue();
 
     Optional<Attachment> findByIdAndActiveTrue(Long id);
 
+    long countByContentHashAndActiveTrue(String contentHash);
+
+    @Query("SELECT a.task.id AS taskId, a.id AS id FROM Attachment a WHERE a.task.id IN :taskIds AND a.active = true ORDER BY a.id")
+    List<TaskChildIdView> findActiveIdsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
 }
@@ -1,16 +1,55 @@
 package dev.muazmemis.finalproject.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import dev.muazmemis.finalproject.dto.comment.CommentResponse;
 import dev.muazmemis.finalproject.model.entity.Comment;
+import dev.muazmemis.finalproject.repository.projection.TaskChildIdView;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @EntityGraph(attributePaths = "createdBy")
     List<Comment> findAllByActiveTrue();
 
     Optional<Comment> findByIdAndActiveTrue(Long id);
 
+    @Query("SELECT c.task.id AS taskId, c.id AS id FROM Comment c WHERE c.task.id IN :taskIds AND c.active = true ORDER BY c.id")
+    List<TaskChildIdView> findActiveIdsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("""
+            SELECT new dev.muazmemis.finalproject.dto.comment.CommentResponse(
+                c.id, c.content, c.task.id, u.id, u.username, c.createdAt)
+            FROM Comment c LEFT JOIN c.createdBy u
+            WHERE c.task.id = :taskId
+              AND c.active = true
+            ORDER BY c.createdAt, c.id
+            """)
+    List<CommentResponse> findActiveByTaskId(@Param("taskId") Long taskId, Pageable pageable);
+
+    /**
+     * The page after a cursor. The row-value comparison lets the (task_id, created_at, id) index seek straight to
+     * the cursor, so a deep page reads no more rows than the first.
+     */
+    @Query("""
+            SELECT new dev.muazmemis.finalproject.dto.comment.CommentResponse(
+                c.id, c.content, c.task.id, u.id, u.username, c.createdAt)
+            FROM Comment c LEFT JOIN c.createdBy u
+            WHERE c.task.id = :taskId
+              AND c.active = true
+              AND (c.createdAt, c.id) > (:afterCreatedAt, :afterId)
+            ORDER BY c.createdAt, c.id
+            """)
+    List<CommentResponse> findActiveByTaskIdAfter(@Param("taskId") Long taskId,
+                                                  @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
 }
@@ -4,15 +4,32 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
     boolean existsByName(String name);
 
     List<Department> findAllByActiveTrue();
 
-    Optional<Department> findByIdAndActiveTrue(Long id);
+    default Optional<Department> findByIdAndActiveTrue(Long id) {
+        return findById(id).filter(Department::isActive);
+    }
+
+    /**
+     * Departments have no version, so the response changes with the department itself and with every project created
+     * in it.
+     */
+    @Query("""
+            SELECT new dev.muazmemis.finalproject.repository.projection.ResourceVersion(GREATEST(d.updatedAt,
+                   COALESCE((SELECT MAX(p.createdAt) FROM Project p WHERE p.department = d), d.updatedAt)))
+            FROM Department d
+            WHERE d.id = :id AND d.active = true
+            """)
+    Optional<ResourceVersion> findResourceVersion(@Param("id") Long id);
 
     boolean existsByNameAndActiveTrue(String name);
 }
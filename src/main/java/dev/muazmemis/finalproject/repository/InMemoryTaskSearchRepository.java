@@ -0,0 +1,186 @@
+package dev.muazmemis.finalproject.repository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.muazmemis.finalproject.dto.task.TaskSearchQuery;
+import dev.muazmemis.finalproject.event.TasksChangedEvent;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.projection.TaskSearchHit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inverted index kept in the application's heap, for embedded databases without full-text search. Terms are
+ * lower-cased words without stemming, weighted like the PostgreSQL search vector.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.search.engine", havingValue = "in-memory")
+public class InMemoryTaskSearchRepository implements TaskSearchRepository {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final double TITLE_WEIGHT = 1.0;
+    private static final double DESCRIPTION_WEIGHT = 0.4;
+    private static final double COMMENT_WEIGHT = 0.2;
+    private static final String TASKS = """
+            SELECT t.id, t.title, t.user_story, t.acceptance_criteria, t.project_id, t.state, t.active
+            FROM tasks t
+            """;
+    private static final String COMMENTS = """
+            SELECT c.task_id, c.content
+            FROM comments c
+            WHERE c.active = true AND c.task_id IS NOT NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedTask> tasks = new HashMap<>();
+    private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, IndexedTask> loaded = load(null);
+
+        lock.writeLock().lock();
+        try {
+            tasks.clear();
+            postings.clear();
+            loaded.values().forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Task search index built: {} tasks", loaded.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksChanged(TasksChangedEvent event) {
+        if (event.taskIds().isEmpty())
+            return;
+
+        Map<Long, IndexedTask> loaded = load(event.taskIds());
+
+        lock.writeLock().lock();
+        try {
+            event.taskIds().forEach(this::remove);
+            loaded.values().forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<TaskSearchHit> search(TaskSearchQuery query, int offset, int limit) {
+        Set<String> terms = tokenize(query.text());
+        if (terms.isEmpty())
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> matches = postings.getOrDefault(term, Map.of());
+                if (scores == null) {
+                    scores = new HashMap<>(matches);
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((taskId, score) -> score + matches.get(taskId));
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .filter(entry -> matchesFilters(tasks.get(entry.getKey()), query))
+                    .map(entry -> new TaskSearchHit(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingDouble(TaskSearchHit::rank).reversed()
+                            .thenComparing(TaskSearchHit::taskId))
+                    .skip(offset)
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matchesFilters(IndexedTask task, TaskSearchQuery query) {
+        return task.active()
+                && (query.projectId() == null || query.projectId().equals(task.projectId()))
+                && (query.state() == null || query.state() == task.state());
+    }
+
+    private Map<Long, IndexedTask> load(Collection<Long> taskIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("taskIds", taskIds);
+        String taskFilter = taskIds == null ? "" : " WHERE t.id IN (:taskIds)";
+        String commentFilter = taskIds == null ? "" : " AND c.task_id IN (:taskIds)";
+
+        Map<Long, IndexedTask> loaded = new HashMap<>();
+        jdbcTemplate.query(TASKS + taskFilter, parameters, rs -> {
+            IndexedTask task = new IndexedTask(rs.getLong("id"), rs.getLong("project_id"),
+                    TaskState.valueOf(rs.getString("state")), rs.getBoolean("active"), new HashMap<>());
+            addTerms(task, rs.getString("title"), TITLE_WEIGHT);
+            addTerms(task, rs.getString("user_story"), DESCRIPTION_WEIGHT);
+            addTerms(task, rs.getString("acceptance_criteria"), DESCRIPTION_WEIGHT);
+            loaded.put(task.id(), task);
+        });
+        jdbcTemplate.query(COMMENTS + commentFilter, parameters, rs -> {
+            IndexedTask task = loaded.get(rs.getLong("task_id"));
+            if (task != null)
+                addTerms(task, rs.getString("content"), COMMENT_WEIGHT);
+        });
+        return loaded;
+    }
+
+    private void addTerms(IndexedTask task, String text, double weight) {
+        for (String term : WORD_SEPARATOR.split(text == null ? "" : text.toLowerCase(Locale.ROOT)))
+            if (!term.isEmpty())
+                task.terms().merge(term, weight, Double::sum);
+    }
+
+    private void add(IndexedTask task) {
+        tasks.put(task.id(), task);
+        task.terms().forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(task.id(), weight));
+    }
+
+    private void remove(Long taskId) {
+        IndexedTask task = tasks.remove(taskId);
+        if (task == null)
+            return;
+
+        for (String term : task.terms().keySet()) {
+            Map<Long, Double> matches = postings.get(term);
+            matches.remove(taskId);
+            if (matches.isEmpty())
+                postings.remove(term);
+        }
+    }
+
+    private Set<String> tokenize(String text) {
+        Set<String> terms = new HashSet<>();
+        for (String term : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+            if (!term.isEmpty())
+                terms.add(term);
+        return terms;
+    }
+
+    private record IndexedTask(Long id, Long projectId, TaskState state, boolean active, Map<String, Double> terms) {
+    }
+}
@@ -0,0 +1,63 @@
+package dev.muazmemis.finalproject.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import dev.muazmemis.finalproject.model.entity.OutboxEvent;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * The oldest pending event of each aggregate that is due for delivery. An aggregate whose oldest event is waiting
+     * for a retry or parked contributes nothing, so it neither fills the batch nor lets later events overtake it.
+     */
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.publishedAt IS NULL AND e.parkedAt IS NULL
+              AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)
+              AND NOT EXISTS (
+                  SELECT 1 FROM OutboxEvent p
+                  WHERE p.aggregateType = e.aggregateType AND p.aggregateId = e.aggregateId
+                    AND p.aggregateSequence < e.aggregateSequence AND p.publishedAt IS NULL)
+            ORDER BY e.id
+            """)
+    List<OutboxEvent> findDeliverable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("""
+            SELECT COALESCE(MAX(e.aggregateSequence), 0) FROM OutboxEvent e
+            WHERE e.aggregateType = :aggregateType AND e.aggregateId = :aggregateId
+            """)
+    long findLastAggregateSequence(@Param("aggregateType") AggregateType aggregateType,
+                                   @Param("aggregateId") Long aggregateId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.nextAttemptAt = :nextAttemptAt
+            WHERE e.id = :id
+            """)
+    int recordFailure(@Param("id") Long id, @Param("error") String error,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.parkedAt = :parkedAt
+            WHERE e.id = :id
+            """)
+    int park(@Param("id") Long id, @Param("error") String error, @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,46 @@
+package dev.muazmemis.finalproject.repository;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import dev.muazmemis.finalproject.dto.task.TaskSearchQuery;
+import dev.muazmemis.finalproject.repository.projection.TaskSearchHit;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresTaskSearchRepository implements TaskSearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskSearchHit> search(TaskSearchQuery query, int offset, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query.text())
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+                FROM tasks t, websearch_to_tsquery('english', :query) AS q(query)
+                WHERE t.active = true AND t.search_vector @@ q.query
+                """);
+        if (query.projectId() != null) {
+            sql.append(" AND t.project_id = :projectId");
+            parameters.addValue("projectId", query.projectId());
+        }
+        if (query.state() != null) {
+            sql.append(" AND t.state = :state");
+            parameters.addValue("state", query.state().name());
+        }
+        sql.append(" ORDER BY rank DESC, t.id LIMIT :limit OFFSET :offset");
+
+        return jdbcTemplate.query(sql.toString(), parameters,
+                (rs, rowNum) -> new TaskSearchHit(rs.getLong("id"), rs.getDouble("rank")));
+    }
+}
@@ -1,19 +1,73 @@
 package dev.muazmemis.finalproject.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
+import jakarta.persistence.QueryHint;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByDepartmentId(Long departmentId);
 
     List<Project> findAllByActiveTrue();
 
-    Optional<Project> findByIdAndActiveTrue(Long id);
+    default Optional<Project> findByIdAndActiveTrue(Long id) {
+        return findById(id).filter(Project::isActive);
+    }
+
+    /**
+     * The response of an active project changes with the project itself, which team-member changes also touch, with
+     * its department's name and with every task created in it.
+     */
+    @Query("""
+            SELECT new dev.muazmemis.finalproject.repository.projection.ResourceVersion(p.version,
+                   GREATEST(p.updatedAt, p.department.updatedAt,
+                   COALESCE((SELECT MAX(t.createdAt) FROM Task t WHERE t.project = p), p.updatedAt)))
+            FROM Project p
+            WHERE p.id = :id AND p.active = true
+            """)
+    Optional<ResourceVersion> findResourceVersion(@Param("id") Long id);
 
     List<Project> findByDepartmentIdAndActiveTrue(Long departmentId);
 
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :id ORDER BY t.id")
+    List<Long> findTaskIds(@Param("id") Long id);
+
+    @Query("SELECT u.id FROM Project p JOIN p.teamMembers u WHERE p.id = :id ORDER BY u.id")
+    List<Long> findTeamMemberIds(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_team_members"))
+    @Query(value = """
+            INSERT INTO project_team_members (project_id, user_id)
+            SELECT :id, u.id FROM users u
+            WHERE u.id IN :userIds
+              AND NOT EXISTS (SELECT 1 FROM project_team_members m WHERE m.project_id = :id AND m.user_id = u.id)
+            """, nativeQuery = true)
+    int addTeamMembers(@Param("id") Long id, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_team_members"))
+    @Query(value = "DELETE FROM project_team_members WHERE project_id = :id AND user_id IN :userIds", nativeQuery = true)
+    int removeTeamMembers(@Param("id") Long id, @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT p.openTaskCount FROM Project p WHERE p.id = :id")
+    long findOpenTaskCount(@Param("id") Long id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects_open_task_count"))
+    @Query(value = """
+            UPDATE projects SET open_task_count = open_task_count + :delta WHERE id = :id
+            """, nativeQuery = true)
+    int adjustOpenTaskCount(@Param("id") Long id, @Param("delta") long delta);
+
 }
@@ -1,19 +1,91 @@
 package dev.muazmemis.finalproject.repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
+import jakarta.persistence.criteria.Predicate;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
-
-    @Query("SELECT t FROM Task t WHERE t.active = true")
-    List<Task> findAllActiveTasks();
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     @Query("SELECT t FROM Task t WHERE t.id = :id AND t.active = true")
     Optional<Task> findByIdAndActiveTrue(@Param("id") Long id);
+
+    /**
+     * The response of an active task changes with the task itself and with its comments and attachments, whose
+     * creation and soft deletion both move their updatedAt.
+     */
+    @Query("""
+            SELECT new dev.muazmemis.finalproject.repository.projection.ResourceVersion(t.version, GREATEST(t.updatedAt,
+                   COALESCE((SELECT MAX(c.updatedAt) FROM Comment c WHERE c.task = t), t.updatedAt),
+                   COALESCE((SELECT MAX(a.updatedAt) FROM Attachment a WHERE a.task = t), t.updatedAt)))
+            FROM Task t
+            WHERE t.id = :id AND t.active = true
+            """)
+    Optional<ResourceVersion> findResourceVersion(@Param("id") Long id);
+
+    boolean existsByIdAndActiveTrue(Long id);
+
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids AND t.active = true")
+    List<Task> findAllByIdInAndActiveTrue(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Up to {@code limit} active tasks in id order. Only the given filters and cursor become predicates, so that the query is a
+     * plain seek on the matching (project_id, id) or (assignee_id, id) index rather than a catch-all that has to scan
+     * every skipped row.
+     */
+    default List<Task> findActiveTasksAfter(Long afterId, Long projectId, Long assigneeId, TaskState state,
+                                            TaskPriority priority, int limit) {
+        Specification<Task> specification = (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(builder.isTrue(root.get("active")));
+            if (afterId != null)
+                predicates.add(builder.greaterThan(root.get("id"), afterId));
+            if (projectId != null)
+                predicates.add(builder.equal(root.get("project").get("id"), projectId));
+            if (assigneeId != null)
+                predicates.add(builder.equal(root.get("assignee").get("id"), assigneeId));
+            if (state != null)
+                predicates.add(builder.equal(root.get("state"), state));
+            if (priority != null)
+                predicates.add(builder.equal(root.get("priority"), priority));
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+
+        return findBy(specification, query -> query.sortBy(Sort.by("id")).limit(limit).all());
+    }
+
+    /**
+     * Moves a task to a new state only if it is still in the state and at the version the caller read, so that two
+     * racing transitions cannot both apply. Returns 0 when the task has changed since it was read.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Task t
+            SET t.state = :state, t.stateChangeReason = :reason, t.version = t.version + 1,
+                t.updatedAt = :updatedAt, t.updatedBy = :updatedBy
+            WHERE t.id = :id AND t.state = :expectedState AND t.version = :expectedVersion AND t.active = true
+            """)
+    int updateStateIfUnchanged(@Param("id") Long id,
+                               @Param("expectedState") TaskState expectedState,
+                               @Param("expectedVersion") long expectedVersion,
+                               @Param("state") TaskState state,
+                               @Param("reason") String reason,
+                               @Param("updatedAt") LocalDateTime updatedAt,
+                               @Param("updatedBy") User updatedBy);
 }
@@ -0,0 +1,14 @@
+package dev.muazmemis.finalproject.repository;
+
+import java.util.List;
+
+import dev.muazmemis.finalproject.dto.task.TaskSearchQuery;
+import dev.muazmemis.finalproject.repository.projection.TaskSearchHit;
+
+public interface TaskSearchRepository {
+
+    /**
+     * Returns active tasks matching every term of the query, best match first and ties broken by id.
+     */
+    List<TaskSearchHit> search(TaskSearchQuery query, int offset, int limit);
+}
@@ -1,5 +1,6 @@
 package dev.muazmemis.finalproject.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findAllByActiveTrue();
 
-    Optional<User> findByIdAndActiveTrue(Long id);
+    default Optional<User> findByIdAndActiveTrue(Long id) {
+        return findById(id).filter(User::isActive);
+    }
+
+    List<User> findAllByIdInAndActiveTrue(Collection<Long> ids);
 
 }
@@ -0,0 +1,17 @@
+package dev.muazmemis.finalproject.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a single-resource response depends on: the entity's optimistic-locking version, when it has one, and the
+ * latest modification of the entity or of any child whose id the response lists.
+ */
+public record ResourceVersion(
+        Long version,
+        LocalDateTime lastModified
+) {
+
+    public ResourceVersion(LocalDateTime lastModified) {
+        this(null, lastModified);
+    }
+}
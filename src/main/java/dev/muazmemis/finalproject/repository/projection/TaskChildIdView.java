@@ -0,0 +1,8 @@
+package dev.muazmemis.finalproject.repository.projection;
+
+public interface TaskChildIdView {
+
+    Long getTaskId();
+
+    Long getId();
+}
@@ -0,0 +1,7 @@
+package dev.muazmemis.finalproject.repository.projection;
+
+public record TaskSearchHit(
+        Long taskId,
+        double rank
+) {
+}
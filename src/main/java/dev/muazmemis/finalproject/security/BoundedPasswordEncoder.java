@@ -0,0 +1,149 @@
+package dev.muazmemis.finalproject.security;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt on a small dedicated pool, so that a burst of logins or registrations queues behind a fixed number of
+ * hashing threads instead of taking every CPU from the rest of the API. A hash that cannot be queued, or does not
+ * finish within the timeout, is rejected with 429 instead of piling up more waiting requests.
+ * <p>
+ * BCrypt ignores interrupts, so a hash that has already started runs to the end even after its caller gave up. A hash
+ * still queued when its caller gives up is removed from the queue, and one that reaches a thread after the caller's
+ * deadline is skipped, so abandoned requests cost at most the hashes already in progress.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    static final String HASH_METRIC = "security.password.hash";
+    static final String REJECTED_METRIC = "security.password.hash.rejected";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.security.password-hashing.threads:2}")
+    private int threads;
+
+    @Value("${application.security.password-hashing.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${application.security.password-hashing.timeout:5s}")
+    private Duration timeout;
+
+    @Value("${application.security.password-hashing.retry-after:1s}")
+    private Duration retryAfter;
+
+    private PasswordEncoder delegate = new BCryptPasswordEncoder();
+    private ThreadPoolTaskExecutor executor;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+
+        encodeTimer = hashTimer("encode");
+        matchesTimer = hashTimer("matches");
+        rejected = Counter.builder(REJECTED_METRIC)
+                .description("Password hashes rejected because the hashing pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T hash(Timer timer, Supplier<T> hashing) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                if (System.nanoTime() - deadline >= 0)
+                    throw new CancellationException("Password hash abandoned by its caller");
+                return timer.record(hashing);
+            });
+        } catch (TaskRejectedException e) {
+            throw busy();
+        }
+
+        try {
+            return result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            abandon(result);
+            throw busy();
+        } catch (InterruptedException e) {
+            abandon(result);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void abandon(Future<?> result) {
+        result.cancel(false);
+        if (result instanceof Runnable queued)
+            executor.getThreadPoolExecutor().remove(queued);
+    }
+
+    private TooManyRequestsException busy() {
+        rejected.increment();
+        log.warn("Password hashing pool is saturated; rejecting the request");
+        return new TooManyRequestsException(ErrorMessages.PASSWORD_HASHING_BUSY, retryAfter);
+    }
+
+    private Timer hashTimer(String operation) {
+        return Timer.builder(HASH_METRIC)
+                .description("Time spent computing BCrypt password hashes")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
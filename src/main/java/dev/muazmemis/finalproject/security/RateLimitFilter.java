@@ -0,0 +1,146 @@
+package dev.muazmemis.finalproject.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies the configured {@link RateLimitProperties} after {@link JwtAuthenticationFilter}, so that authenticated
+ * callers are limited by user and anonymous ones, such as logins, by client address. Buckets live in a bounded cache
+ * and are dropped once idle; a dropped bucket simply starts again full.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String REJECTED_METRIC = "security.rate-limit.rejected";
+    static final String BUCKETS_METRIC = "security.rate-limit.buckets";
+
+    private final boolean enabled;
+    private final List<LimitedEndpoint> endpoints;
+    private final Cache<String, TokenBucket> buckets;
+    private final ObjectMapper objectMapper;
+    private LongSupplier clock = System::nanoTime;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        this.endpoints = properties.rules().stream()
+                .map(rule -> new LimitedEndpoint(rule, PathPatternParser.defaultInstance.parse(rule.pattern()),
+                        Counter.builder(REJECTED_METRIC)
+                                .description("Requests rejected by the rate limiter")
+                                .tag("rule", rule.name())
+                                .register(meterRegistry)))
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maximumBuckets())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+        Gauge.builder(BUCKETS_METRIC, buckets, Cache::estimatedSize)
+                .description("Callers with an active rate-limit bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || endpoints.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        LimitedEndpoint endpoint = findEndpoint(request);
+        if (endpoint == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Rule rule = endpoint.rule();
+        String caller = caller(request);
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(rule.name() + ":" + caller,
+                key -> new TokenBucket(rule.capacity(), rule.period(), now));
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        endpoint.rejected().increment();
+        log.debug("Rate limit {} exceeded by {}", rule.name(), caller);
+        reject(request, response, waitNanos);
+    }
+
+    private LimitedEndpoint findEndpoint(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+
+        for (LimitedEndpoint endpoint : endpoints) {
+            HttpMethod ruleMethod = endpoint.rule().method();
+            if ((ruleMethod == null || ruleMethod.equals(method)) && endpoint.pattern().matches(path))
+                return endpoint;
+        }
+        return null;
+    }
+
+    private String caller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken))
+            return "user:" + authentication.getName();
+
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos)
+            throws IOException {
+        long retryAfterSeconds = Duration.ofNanos(waitNanos).plusSeconds(1).minusNanos(1).toSeconds();
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ErrorMessages.RATE_LIMITED,
+                LocalDateTime.now(),
+                request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private record LimitedEndpoint(RateLimitProperties.Rule rule, PathPattern pattern, Counter rejected) {
+    }
+}
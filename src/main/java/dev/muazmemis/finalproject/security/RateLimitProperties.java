@@ -0,0 +1,38 @@
+package dev.muazmemis.finalproject.security;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Request limits per endpoint. The first rule whose pattern and method match a request applies, and each caller gets
+ * its own bucket for that rule: the JWT subject when the request is authenticated, the client address otherwise.
+ */
+@ConfigurationProperties(prefix = "application.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maximumBuckets,
+        @DefaultValue("10m") Duration idleTimeout,
+        List<Rule> rules
+) {
+
+    public RateLimitProperties {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * Allows bursts of up to {@code capacity} requests and refills the bucket completely over {@code period}. A rule
+     * without a method applies to every method.
+     */
+    public record Rule(
+            String name,
+            String pattern,
+            HttpMethod method,
+            int capacity,
+            Duration period
+    ) {
+    }
+}
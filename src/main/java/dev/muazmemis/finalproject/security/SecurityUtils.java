@@ -1,5 +1,7 @@
 package dev.muazmemis.finalproject.security;
 
+import java.util.Optional;
+
 import dev.muazmemis.finalproject.constant.ErrorMessages;
 import dev.muazmemis.finalproject.model.entity.User;
 import dev.muazmemis.finalproject.repository.UserRepository;
@@ -21,8 +23,11 @@ public class SecurityUtils {
             throw new IllegalStateException("No authenticated user found");
         }
 
-        return userRepository.findByUsernameAndActiveTrue(authentication.getName())
-                .orElseThrow(() -> new UsernameNotFoundException(
+        Optional<User> user = authentication.getPrincipal() instanceof User principal
+                ? userRepository.findByIdAndActiveTrue(principal.getId())
+                : userRepository.findByUsernameAndActiveTrue(authentication.getName());
+
+        return user.orElseThrow(() -> new UsernameNotFoundException(
                         String.format(ErrorMessages.USERNAME_NOT_FOUND, authentication.getName())));
     }
 }
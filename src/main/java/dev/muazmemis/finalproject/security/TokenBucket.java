@@ -0,0 +1,38 @@
+package dev.muazmemis.finalproject.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket that holds {@code capacity} tokens and refills one every {@code period / capacity}. Its
+ * whole state is a single timestamp: the instant at which the bucket would be full again. Taking a token moves that
+ * instant one refill interval later, and a request is refused when that would put it further ahead than the capacity
+ * allows.
+ */
+final class TokenBucket {
+
+    private final long refillNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, Duration period, long now) {
+        refillNanos = Math.max(1, period.toNanos() / capacity);
+        capacityNanos = refillNanos * capacity;
+        fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token and returns 0, or returns how many nanoseconds remain until the next token is available.
+     */
+    long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + refillNanos;
+            long ahead = next - now;
+            if (ahead > capacityNanos)
+                return ahead - capacityNanos;
+            if (fullAt.compareAndSet(current, next))
+                return 0;
+        }
+    }
+}
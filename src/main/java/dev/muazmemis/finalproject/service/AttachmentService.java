@@ -1,29 +1,51 @@
 package dev.muazmemis.finalproject.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
 
 import dev.muazmemis.finalproject.security.SecurityUtils;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import dev.muazmemis.finalproject.dto.attachment.AttachmentDownload;
 import dev.muazmemis.finalproject.dto.attachment.AttachmentRequest;
 import dev.muazmemis.finalproject.dto.attachment.AttachmentResponse;
 import dev.muazmemis.finalproject.mapper.AttachmentMapper;
 import dev.muazmemis.finalproject.model.entity.Attachment;
 import dev.muazmemis.finalproject.model.entity.Task;
 import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
 import dev.muazmemis.finalproject.model.enums.Role;
 import dev.muazmemis.finalproject.repository.AttachmentRepository;
 import dev.muazmemis.finalproject.repository.TaskRepository;
@@ -36,64 +58,240 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AttachmentService {
 
+    private static final String BLOB_DIR = "blobs";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BLOB_LOCK_STRIPES = 64;
+
     private final AttachmentRepository attachmentRepository;
     private final TaskRepository taskRepository;
     private final AttachmentMapper attachmentMapper;
     private final SecurityUtils securityUtils;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxService outboxService;
 
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
-    @Transactional
+    @Value("${file.upload-buffer-size:65536}")
+    private int uploadBufferSize;
+
+    @Value("${file.content-addressed:true}")
+    private boolean contentAddressed;
+
+    private final Map<String, Integer> pendingBlobs = new ConcurrentHashMap<>();
+    private final ReentrantLock[] blobLocks = createBlobLocks();
+
     public List<AttachmentResponse> uploadAttachment(AttachmentRequest request) throws IOException {
         Task task = taskRepository.findByIdAndActiveTrue(request.taskId())
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + request.taskId()));
 
         List<Attachment> attachments = saveAttachmentFiles(request.files());
-        attachments.forEach(attachment -> attachment.setTask(task));
 
-        List<AttachmentResponse> responses = attachmentMapper.toResponseList(
-                attachmentRepository.saveAll(attachments));
+        try {
+            List<AttachmentResponse> responses = transactionTemplate.execute(status -> {
+                attachments.forEach(attachment -> attachment.setTask(task));
+                List<AttachmentResponse> saved = attachmentMapper.toResponseList(
+                        attachmentRepository.saveAll(attachments));
+                saved.forEach(response -> outboxService.append(AggregateType.ATTACHMENT, response.id(),
+                        ChangeType.CREATED, response));
+                return saved;
+            });
+            releaseAttachmentFiles(attachments);
 
-        log.info("{} attachments uploaded for task ID: {}", responses.size(), request.taskId());
-        return responses;
+            log.info("{} attachments uploaded for task ID: {}", attachments.size(), request.taskId());
+            return responses;
+        } catch (RuntimeException e) {
+            deleteAttachmentFiles(attachments);
+            throw e;
+        }
     }
 
     public List<Attachment> saveAttachmentFiles(List<MultipartFile> files) throws IOException {
-        List<Attachment> attachments = new ArrayList<>();
         Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
         Files.createDirectories(uploadPath);
 
-        for (MultipartFile file : files) {
-            if (file.isEmpty())
-                continue;
+        List<Future<Attachment>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : files) {
+                if (file.isEmpty())
+                    continue;
 
-            String fileName = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
-            String fileExtension = StringUtils.getFilenameExtension(fileName);
-            String uniqueFileName = UUID.randomUUID() + "." + (fileExtension != null ? fileExtension : "bin");
+                futures.add(executor.submit(() -> saveAttachmentFile(file, uploadPath)));
+            }
+        }
 
+        List<Attachment> attachments = new ArrayList<>();
+        IOException failure = null;
+        for (Future<Attachment> future : futures) {
             try {
-                Path targetLocation = uploadPath.resolve(uniqueFileName);
-                Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-                attachments.add(Attachment.builder()
-                        .fileName(fileName)
-                        .filePath(targetLocation.toString())
-                        .fileType(file.getContentType())
-                        .fileSize(file.getSize())
-                        .active(true)
-                        .build());
-
-                log.info("Saved file: {}", fileName);
-            } catch (IOException e) {
-                log.error("Failed to save file: {}", fileName, e);
-                throw e;
+                attachments.add(future.get());
+            } catch (ExecutionException e) {
+                IOException cause = e.getCause() instanceof IOException ioException
+                        ? ioException
+                        : new IOException(e.getCause());
+                if (failure == null)
+                    failure = cause;
+                else
+                    failure.addSuppressed(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new InterruptedIOException("Interrupted while saving attachments");
             }
         }
 
+        if (failure != null) {
+            deleteAttachmentFiles(attachments);
+            throw failure;
+        }
+
         return attachments;
     }
 
+    public void releaseAttachmentFiles(List<Attachment> attachments) {
+        for (Attachment attachment : attachments) {
+            if (attachment.getContentHash() != null)
+                withBlobLock(attachment.getContentHash(), () -> releasePendingBlob(attachment.getContentHash()));
+        }
+    }
+
+    public void deleteAttachmentFiles(List<Attachment> attachments) {
+        for (Attachment attachment : attachments) {
+            if (attachment.getContentHash() == null) {
+                deleteFile(Paths.get(attachment.getFilePath()));
+                continue;
+            }
+
+            withBlobLock(attachment.getContentHash(), () -> {
+                releasePendingBlob(attachment.getContentHash());
+                deleteBlobIfUnreferenced(attachment.getContentHash(), attachment.getFilePath());
+            });
+        }
+    }
+
+    private Attachment saveAttachmentFile(MultipartFile file, Path uploadPath) throws IOException {
+        String fileName = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
+        String fileExtension = StringUtils.getFilenameExtension(fileName);
+        String uniqueFileName = UUID.randomUUID() + "." + (fileExtension != null ? fileExtension : "bin");
+
+        Path filePath;
+        String contentHash = null;
+        if (contentAddressed) {
+            Path stagingFile = uploadPath.resolve(uniqueFileName + ".tmp");
+            MessageDigest digest = newDigest();
+            writeFile(file, fileName, stagingFile, digest);
+
+            contentHash = HexFormat.of().formatHex(digest.digest());
+            filePath = publishBlob(stagingFile, uploadPath, contentHash);
+        } else {
+            filePath = uploadPath.resolve(uniqueFileName);
+            writeFile(file, fileName, filePath, null);
+        }
+
+        log.info("Saved file: {}", fileName);
+        return Attachment.builder()
+                .fileName(fileName)
+                .filePath(filePath.toString())
+                .fileType(file.getContentType())
+                .fileSize(file.getSize())
+                .contentHash(contentHash)
+                .active(true)
+                .build();
+    }
+
+    private void writeFile(MultipartFile file, String fileName, Path targetLocation, MessageDigest digest)
+            throws IOException {
+        try (InputStream inputStream = file.getInputStream();
+             FileChannel channel = FileChannel.open(targetLocation, StandardOpenOption.CREATE_NEW,
+                     StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[uploadBufferSize];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                if (digest != null)
+                    digest.update(buffer, 0, read);
+                byteBuffer.clear().limit(read);
+                while (byteBuffer.hasRemaining())
+                    channel.write(byteBuffer);
+            }
+        } catch (IOException e) {
+            log.error("Failed to save file: {}", fileName, e);
+            Files.deleteIfExists(targetLocation);
+            throw e;
+        }
+    }
+
+    private Path publishBlob(Path stagingFile, Path uploadPath, String contentHash) throws IOException {
+        Path blobPath = uploadPath.resolve(BLOB_DIR).resolve(contentHash.substring(0, 2)).resolve(contentHash);
+
+        ReentrantLock lock = blobLock(contentHash);
+        lock.lock();
+        try {
+            Files.createDirectories(blobPath.getParent());
+            if (Files.exists(blobPath))
+                Files.delete(stagingFile);
+            else
+                Files.move(stagingFile, blobPath, StandardCopyOption.ATOMIC_MOVE);
+
+            pendingBlobs.merge(contentHash, 1, Integer::sum);
+        } catch (IOException e) {
+            Files.deleteIfExists(stagingFile);
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+
+        return blobPath;
+    }
+
+    private void releasePendingBlob(String contentHash) {
+        pendingBlobs.computeIfPresent(contentHash, (hash, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void deleteBlobIfUnreferenced(String contentHash, String filePath) {
+        if (pendingBlobs.containsKey(contentHash) || attachmentRepository.countByContentHashAndActiveTrue(contentHash) > 0)
+            return;
+
+        deleteFile(Paths.get(filePath));
+        log.info("Deleted unreferenced blob: {}", contentHash);
+    }
+
+    private void deleteFile(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            log.error("Failed to delete file: {}", filePath, e);
+        }
+    }
+
+    private void withBlobLock(String contentHash, Runnable action) {
+        ReentrantLock lock = blobLock(contentHash);
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock blobLock(String contentHash) {
+        return blobLocks[Math.floorMod(contentHash.hashCode(), BLOB_LOCK_STRIPES)];
+    }
+
+    private static ReentrantLock[] createBlobLocks() {
+        ReentrantLock[] locks = new ReentrantLock[BLOB_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++)
+            locks[i] = new ReentrantLock();
+        return locks;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(HASH_ALGORITHM + " is not available", e);
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<AttachmentResponse> getAllAttachments() {
         log.info("Attachments retrieved");
@@ -109,6 +307,23 @@ public class AttachmentService {
         return attachmentMapper.toResponse(attachment);
     }
 
+    @Transactional(readOnly = true)
+    public AttachmentDownload getAttachmentDownload(Long id) throws IOException {
+        Attachment attachment = attachmentRepository.findByIdAndActiveTrue(id)
+                .orElseThrow(() -> new EntityNotFoundException("Attachment not found with id: " + id));
+
+        Path filePath = Paths.get(attachment.getFilePath());
+        if (!Files.isReadable(filePath))
+            throw new EntityNotFoundException("Attachment file not found with id: " + id);
+
+        Instant lastModified = Files.getLastModifiedTime(filePath).toInstant();
+        String eTag = "\"" + attachment.getId() + "-" + Files.size(filePath) + "-" + lastModified.toEpochMilli() + "\"";
+
+        log.info("Attachment download prepared with id: {}", id);
+        return new AttachmentDownload(attachment.getFileName(), attachment.getFileType(),
+                new FileSystemResource(filePath), eTag, lastModified);
+    }
+
     @Transactional
     public void deleteAttachment(Long id) throws IOException {
         Attachment attachment = attachmentRepository.findByIdAndActiveTrue(id)
@@ -120,12 +335,33 @@ public class AttachmentService {
             throw new IllegalStateException("You can only delete your own attachments");
         }
 
-        Path filePath = Paths.get(attachment.getFilePath());
-        Files.deleteIfExists(filePath);
         attachment.setActive(false);
+        attachmentRepository.save(attachment);
+        outboxService.append(AggregateType.ATTACHMENT, attachment.getId(), ChangeType.DELETED,
+                attachmentMapper.toResponse(attachment));
+
+        if (attachment.getContentHash() == null)
+            Files.deleteIfExists(Paths.get(attachment.getFilePath()));
+        else
+            deleteBlobAfterCommit(attachment.getContentHash(), attachment.getFilePath());
 
         log.info("Attachment deleted");
-        attachmentRepository.save(attachment);
+    }
+
+    private void deleteBlobAfterCommit(String contentHash, String filePath) {
+        Runnable deleteBlob = () -> withBlobLock(contentHash, () -> deleteBlobIfUnreferenced(contentHash, filePath));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteBlob.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteBlob.run();
+            }
+        });
     }
 
 }
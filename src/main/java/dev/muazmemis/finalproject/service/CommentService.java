@@ -3,16 +3,25 @@ package dev.muazmemis.finalproject.service;
 import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.constant.Pagination;
 import dev.muazmemis.finalproject.dto.comment.CommentRequest;
 import dev.muazmemis.finalproject.dto.comment.CommentResponse;
+import dev.muazmemis.finalproject.dto.common.CursorPageResponse;
+import dev.muazmemis.finalproject.event.TasksChangedEvent;
 import dev.muazmemis.finalproject.mapper.CommentMapper;
 import dev.muazmemis.finalproject.model.entity.Comment;
 import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
 import dev.muazmemis.finalproject.repository.CommentRepository;
 import dev.muazmemis.finalproject.repository.TaskRepository;
+import dev.muazmemis.finalproject.util.CursorUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +33,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final CommentMapper commentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
 
     @Transactional
     public CommentResponse saveComment(CommentRequest request) {
@@ -33,8 +44,13 @@ public class CommentService {
         Comment comment = commentMapper.toEntity(request);
         comment.setTask(task);
 
+        comment = commentRepository.save(comment);
+        CommentResponse response = commentMapper.toResponse(comment);
+        eventPublisher.publishEvent(new TasksChangedEvent(List.of(task.getId())));
+        outboxService.append(AggregateType.COMMENT, comment.getId(), ChangeType.CREATED, response);
+
         log.info("Comment saved: {}", comment.getContent());
-        return commentMapper.toResponse(commentRepository.save(comment));
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -54,6 +70,30 @@ public class CommentService {
         return commentMapper.toResponseList(comments);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getTaskComments(Long taskId, String cursor, Integer size) {
+        if (!taskRepository.existsByIdAndActiveTrue(taskId))
+            throw new EntityNotFoundException(String.format(ErrorMessages.TASK_NOT_FOUND, taskId));
+
+        int pageSize = Pagination.resolvePageSize(size);
+        CursorUtils.CreatedAtKey after = CursorUtils.decodeCreatedAt(cursor);
+
+        PageRequest page = PageRequest.ofSize(pageSize + 1);
+        List<CommentResponse> comments = after == null
+                ? commentRepository.findActiveByTaskId(taskId, page)
+                : commentRepository.findActiveByTaskIdAfter(taskId, after.createdAt(), after.id(), page);
+
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext)
+            comments = comments.subList(0, pageSize);
+
+        CommentResponse last = hasNext ? comments.get(comments.size() - 1) : null;
+        String nextCursor = last != null ? CursorUtils.encodeCreatedAt(last.createdAt(), last.id()) : null;
+
+        log.info("Comments found for task {}: {}", taskId, comments.size());
+        return new CursorPageResponse<>(comments, nextCursor, hasNext);
+    }
+
     @Transactional
     public void deleteComment(Long id) {
         Comment comment = commentRepository.findByIdAndActiveTrue(id)
@@ -63,5 +103,9 @@ public class CommentService {
 
         log.info("Comment deleted: {}", comment.getContent());
         commentRepository.save(comment);
+        if (comment.getTask() != null)
+            eventPublisher.publishEvent(new TasksChangedEvent(List.of(comment.getTask().getId())));
+        outboxService.append(AggregateType.COMMENT, comment.getId(), ChangeType.DELETED,
+                commentMapper.toResponse(comment));
     }
 }
@@ -12,6 +12,7 @@ import dev.muazmemis.finalproject.dto.department.DepartmentResponse;
 import dev.muazmemis.finalproject.mapper.DepartmentMapper;
 import dev.muazmemis.finalproject.model.entity.Department;
 import dev.muazmemis.finalproject.repository.DepartmentRepository;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -36,6 +37,12 @@ public class DepartmentService {
         return departmentMapper.toResponse(department);
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getDepartmentVersion(Long id) {
+        return departmentRepository.findResourceVersion(id)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.DEPARTMENT_NOT_FOUND, id)));
+    }
+
     @Transactional(readOnly = true)
     public DepartmentResponse getDepartmentById(Long id) {
         Department department = departmentRepository.findByIdAndActiveTrue(id)
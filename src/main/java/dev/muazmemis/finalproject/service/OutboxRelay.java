@@ -0,0 +1,164 @@
+package dev.muazmemis.finalproject.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.muazmemis.finalproject.event.OutboxMessage;
+import dev.muazmemis.finalproject.event.OutboxSink;
+import dev.muazmemis.finalproject.model.entity.OutboxEvent;
+import dev.muazmemis.finalproject.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the outbox and hands every event to all {@link OutboxSink}s. An event is marked published only once every
+ * sink has accepted it, so delivery is at-least-once. Each pass delivers the oldest pending event of every aggregate,
+ * in aggregate sequence order, so an aggregate's events go out one after another while other aggregates carry on. A
+ * failed event is retried with exponential backoff and holds back the rest of its aggregate; after max-attempts it is
+ * parked, and its aggregate stays held until the event is released by hand. Run the relay on a single instance
+ * (application.outbox.relay.enabled=false elsewhere).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.outbox.relay.interval:1s}")
+    private Duration interval;
+
+    @Value("${application.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${application.outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${application.outbox.relay.retry-backoff:5s}")
+    private Duration retryBackoff;
+
+    @Value("${application.outbox.relay.max-retry-backoff:10m}")
+    private Duration maxRetryBackoff;
+
+    @Value("${application.outbox.relay.retention:7d}")
+    private Duration retention;
+
+    @Value("${application.outbox.relay.cleanup-interval:1h}")
+    private Duration cleanupInterval;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    void init() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("outbox-relay-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::relay, Instant.now().plus(interval), interval);
+        scheduler.scheduleWithFixedDelay(this::purge, Instant.now().plus(cleanupInterval), cleanupInterval);
+        log.info("Outbox relay started with sinks: {}", sinks.stream().map(OutboxSink::name).toList());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+    }
+
+    void relay() {
+        try {
+            // Every published event may have uncovered the next event of its aggregate.
+            int published;
+            do {
+                published = drain();
+            } while (published > 0);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay pass failed", e);
+        }
+    }
+
+    /**
+     * Delivers one batch of pending events and returns how many were published.
+     */
+    int drain() {
+        List<OutboxEvent> batch = outboxEventRepository.findDeliverable(LocalDateTime.now(),
+                PageRequest.ofSize(batchSize));
+        List<Long> published = new ArrayList<>();
+
+        for (OutboxEvent event : batch) {
+            try {
+                OutboxMessage message = toMessage(event);
+                for (OutboxSink sink : sinks)
+                    sink.publish(message);
+                published.add(event.getId());
+            } catch (Exception e) {
+                recordFailure(event, e);
+            }
+        }
+
+        if (!published.isEmpty())
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markPublished(published, LocalDateTime.now()));
+
+        if (!batch.isEmpty())
+            log.debug("Outbox relay published {} of {} events", published.size(), batch.size());
+        return published.size();
+    }
+
+    void purge() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+            log.info("Outbox purged {} published events", deleted);
+        } catch (RuntimeException e) {
+            log.warn("Outbox purge failed", e);
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, Exception e) {
+        int attempt = event.getAttempts() + 1;
+        String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+        String error = truncate(e.toString());
+
+        if (attempt >= maxAttempts) {
+            log.error("Outbox event {} for {} failed {} times and was parked; later events of {} are held: {}",
+                    event.getId(), aggregate, attempt, aggregate, error);
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.park(event.getId(), error, LocalDateTime.now()));
+            return;
+        }
+
+        log.warn("Outbox event {} for {} failed on attempt {}: {}", event.getId(), aggregate, attempt, error);
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempt));
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.recordFailure(event.getId(), error, nextAttemptAt));
+    }
+
+    private Duration backoff(int attempt) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private OutboxMessage toMessage(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+
+    private String truncate(String error) {
+        return error.length() > OutboxEvent.MAX_ERROR_LENGTH ? error.substring(0, OutboxEvent.MAX_ERROR_LENGTH) : error;
+    }
+}
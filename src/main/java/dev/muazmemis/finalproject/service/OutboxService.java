@@ -0,0 +1,61 @@
+package dev.muazmemis.finalproject.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.muazmemis.finalproject.model.entity.OutboxEvent;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+import dev.muazmemis.finalproject.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records changes in the outbox. Appending requires the caller's transaction, so an event is stored if and only if
+ * the change it describes commits; {@link OutboxRelay} delivers it afterwards. Each event gets the next sequence of
+ * its aggregate, which is what the relay orders by: outbox ids are handed out in blocks and do not follow commit order.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(AggregateType aggregateType, Long aggregateId, ChangeType eventType, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .aggregateSequence(nextSequence(aggregateType, aggregateId, eventType))
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private long nextSequence(AggregateType aggregateType, Long aggregateId, ChangeType eventType) {
+        // A creation is always an aggregate's first event; skipping the lookup keeps bulk imports batched.
+        if (eventType == ChangeType.CREATED)
+            return 1;
+
+        // Flushing first issues the aggregate's own update, whose row lock makes a concurrent writer of the same
+        // aggregate wait until this transaction ends and then read its sequence. Writers that still collide are
+        // rejected by the unique index on the sequence.
+        outboxEventRepository.flush();
+        return outboxEventRepository.findLastAggregateSequence(aggregateType, aggregateId) + 1;
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
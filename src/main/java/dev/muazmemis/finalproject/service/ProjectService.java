@@ -1,12 +1,15 @@
 package dev.muazmemis.finalproject.service;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import dev.muazmemis.finalproject.constant.ErrorMessages;
 import dev.muazmemis.finalproject.dto.project.ProjectStatusUpdateRequest;
-import dev.muazmemis.finalproject.model.entity.Task;
-import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.exception.PreconditionFailedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,10 +21,13 @@ import dev.muazmemis.finalproject.mapper.ProjectMapper;
 import dev.muazmemis.finalproject.model.entity.Department;
 import dev.muazmemis.finalproject.model.entity.Project;
 import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
 import dev.muazmemis.finalproject.model.enums.ProjectStatus;
 import dev.muazmemis.finalproject.repository.DepartmentRepository;
 import dev.muazmemis.finalproject.repository.ProjectRepository;
 import dev.muazmemis.finalproject.repository.UserRepository;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -34,6 +40,7 @@ public class ProjectService {
     private final DepartmentRepository departmentRepository;
     private final UserRepository userRepository;
     private final ProjectMapper projectMapper;
+    private final OutboxService outboxService;
 
     @Transactional
     public ProjectResponse saveProject(ProjectRequest request) {
@@ -45,20 +52,21 @@ public class ProjectService {
         Project project = projectMapper.toEntity(request);
         project.setDepartment(department);
 
-        if (request.teamMemberIds() != null && !request.teamMemberIds().isEmpty()) {
-            List<User> teamMembers = new ArrayList<>();
-            for (Long userId : request.teamMemberIds()) {
-                User user = userRepository.findByIdAndActiveTrue(userId)
-                        .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.USER_NOT_FOUND, userId)));
-                teamMembers.add(user);
-            }
-            project.setTeamMembers(teamMembers);
-        }
+        if (request.teamMemberIds() != null && !request.teamMemberIds().isEmpty())
+            project.setTeamMembers(findActiveUsers(request.teamMemberIds()));
 
         project = projectRepository.save(project);
+        ProjectResponse response = projectMapper.toResponse(project);
+        outboxService.append(AggregateType.PROJECT, project.getId(), ChangeType.CREATED, response);
 
         log.info("Project saved: {}", project.getTitle());
-        return projectMapper.toResponse(project);
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getProjectVersion(Long id) {
+        return projectRepository.findResourceVersion(id).orElseThrow(() ->
+                new EntityNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, id)));
     }
 
     @Transactional(readOnly = true)
@@ -87,10 +95,11 @@ public class ProjectService {
     }
 
     @Transactional
-    public ProjectResponse updateProject(Long id, ProjectUpdateRequest request) {
+    public ProjectResponse updateProject(Long id, ProjectUpdateRequest request, Long expectedVersion) {
         Project project = projectRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, id)));
 
+        checkVersion(project, expectedVersion);
         if (project.getStatus() == ProjectStatus.COMPLETED) {
             throw new IllegalStateException("Cannot update a completed project");
         }
@@ -98,29 +107,32 @@ public class ProjectService {
         projectMapper.updateEntity(project, request);
 
         if (request.teamMemberIds() != null) {
-            List<User> teamMembers = new ArrayList<>();
-            for (Long userId : request.teamMemberIds()) {
-                User user = userRepository.findByIdAndActiveTrue(userId).orElseThrow(() ->
-                        new EntityNotFoundException(String.format(ErrorMessages.USER_NOT_FOUND, userId)));
-                teamMembers.add(user);
-            }
-            project.setTeamMembers(teamMembers);
+            Set<User> teamMembers = findActiveUsers(request.teamMemberIds());
+            project.getTeamMembers().retainAll(teamMembers);
+            project.getTeamMembers().addAll(teamMembers);
         }
 
+        ProjectResponse response = toResponse(saveAndFlush(project));
+        outboxService.append(AggregateType.PROJECT, project.getId(), ChangeType.UPDATED, response);
+
         log.info("Project updated: {}", project.getTitle());
-        return projectMapper.toResponse(projectRepository.save(project));
+        return response;
     }
 
     @Transactional
-    public ProjectResponse updateProductStatus(Long id, ProjectStatusUpdateRequest request) {
+    public ProjectResponse updateProductStatus(Long id, ProjectStatusUpdateRequest request, Long expectedVersion) {
         Project project = projectRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, id)));
 
+        checkVersion(project, expectedVersion);
         validateProjectStatusUpdate(project, request);
         project.setStatus(request.status());
 
+        ProjectResponse response = toResponse(saveAndFlush(project));
+        outboxService.append(AggregateType.PROJECT, project.getId(), ChangeType.STATE_CHANGED, response);
+
         log.info("Project status updated. Project Title: '{}', New Status: '{}'", project.getTitle(), project.getStatus());
-        return projectMapper.toResponse(projectRepository.save(project));
+        return response;
     }
 
     @Transactional
@@ -131,6 +143,7 @@ public class ProjectService {
 
         log.info("Project deleted: {}", project.getTitle());
         projectRepository.save(project);
+        outboxService.append(AggregateType.PROJECT, project.getId(), ChangeType.DELETED, toResponse(project));
     }
 
     @Transactional
@@ -138,19 +151,17 @@ public class ProjectService {
         Project project = projectRepository.findByIdAndActiveTrue(projectId)
                 .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, projectId)));
 
-        for (Long userId : userIds) {
-            User user = userRepository.findByIdAndActiveTrue(userId)
-                    .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.USER_NOT_FOUND, userId)));
+        Set<Long> ids = activeUserIds(userIds);
+        int added = projectRepository.addTeamMembers(projectId, ids);
+        if (added > 0)
+            project = incrementVersion(project);
 
-            if (!project.getTeamMembers().contains(user)) {
-                project.getTeamMembers().add(user);
-            }
-        }
-
-        project = projectRepository.save(project);
+        ProjectResponse response = toResponse(project);
+        if (added > 0)
+            outboxService.append(AggregateType.PROJECT, projectId, ChangeType.UPDATED, response);
 
-        log.info("Project added team members: {}", project.getTitle());
-        return projectMapper.toResponse(project);
+        log.info("Project added {} team members: {}", added, project.getTitle());
+        return response;
     }
 
     @Transactional
@@ -158,21 +169,67 @@ public class ProjectService {
         Project project = projectRepository.findByIdAndActiveTrue(projectId)
                 .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, projectId)));
 
-        List<User> usersToRemove = new ArrayList<>();
-        for (Long userId : userIds) {
-            User user = userRepository.findByIdAndActiveTrue(userId)
-                    .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.USER_NOT_FOUND, userId)));
+        Set<Long> ids = activeUserIds(userIds);
+        int removed = projectRepository.removeTeamMembers(projectId, ids);
+        if (removed > 0)
+            project = incrementVersion(project);
 
-            if (project.getTeamMembers().contains(user)) {
-                usersToRemove.add(user);
-            }
-        }
+        ProjectResponse response = toResponse(project);
+        if (removed > 0)
+            outboxService.append(AggregateType.PROJECT, projectId, ChangeType.UPDATED, response);
 
-        project.getTeamMembers().removeAll(usersToRemove);
-        project = projectRepository.save(project);
+        log.info("Project removed {} team members: {}", removed, project.getTitle());
+        return response;
+    }
 
-        log.info("Project removed team members: {}", project.getTitle());
-        return projectMapper.toResponse(project);
+    /**
+     * Maps a project after a write without initializing its task and team member collections.
+     */
+    private ProjectResponse toResponse(Project project) {
+        return projectMapper.toResponse(project, projectRepository.findTaskIds(project.getId()),
+                projectRepository.findTeamMemberIds(project.getId()));
+    }
+
+    /**
+     * Flushes the project so that a concurrent change fails here and its incremented version is known.
+     */
+    private Project saveAndFlush(Project project) {
+        Project saved = projectRepository.save(project);
+        projectRepository.flush();
+        return saved;
+    }
+
+    /**
+     * Team membership is written with native SQL, which leaves the project row alone. Touch the managed project so
+     * that its version and ETag move on. A bulk update would instead evict every project from the second-level cache.
+     */
+    private Project incrementVersion(Project project) {
+        project.setUpdatedAt(LocalDateTime.now());
+        return saveAndFlush(project);
+    }
+
+    private void checkVersion(Project project, Long expectedVersion) {
+        if (expectedVersion != null && project.getVersion() != expectedVersion)
+            throw new PreconditionFailedException(String.format(ErrorMessages.VERSION_MISMATCH, "Project",
+                    project.getId(), expectedVersion, project.getVersion()));
+    }
+
+    private Set<Long> activeUserIds(Collection<Long> userIds) {
+        Set<Long> ids = new HashSet<>();
+        findActiveUsers(userIds).forEach(user -> ids.add(user.getId()));
+        return ids;
+    }
+
+    private Set<User> findActiveUsers(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        List<User> users = userRepository.findAllByIdInAndActiveTrue(ids);
+
+        if (users.size() != ids.size()) {
+            users.forEach(user -> ids.remove(user.getId()));
+            throw new EntityNotFoundException(String.format(ErrorMessages.USER_NOT_FOUND, ids.iterator().next()));
+        }
+
+        return new HashSet<>(users);
     }
 
     private void validateProjectStatusUpdate(Project project, ProjectStatusUpdateRequest request) {
@@ -185,13 +242,8 @@ public class ProjectService {
         if (project.getStatus() == ProjectStatus.CANCELLED)
             throw new IllegalStateException("Cannot update a cancelled project");
 
-        if (request.status() == ProjectStatus.COMPLETED && project.getTasks() != null) {
-            for (Task task : project.getTasks()) {
-                if (task.getState() != TaskState.COMPLETED) {
-                    throw new IllegalStateException("Cannot update project status while there are incomplete tasks");
-                }
-            }
-        }
+        if (request.status() == ProjectStatus.COMPLETED && projectRepository.findOpenTaskCount(project.getId()) > 0)
+            throw new IllegalStateException("Cannot update project status while there are incomplete tasks");
     }
 
 }
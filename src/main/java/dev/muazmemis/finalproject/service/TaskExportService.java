@@ -0,0 +1,238 @@
+package dev.muazmemis.finalproject.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.dto.attachment.AttachmentExportRecord;
+import dev.muazmemis.finalproject.dto.comment.CommentExportRecord;
+import dev.muazmemis.finalproject.dto.task.TaskExportRecord;
+import dev.muazmemis.finalproject.dto.task.TaskExportRequest;
+import dev.muazmemis.finalproject.model.enums.DataFormat;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.DepartmentRepository;
+import dev.muazmemis.finalproject.repository.ProjectRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final String TASK_COLUMNS = """
+            SELECT t.id, t.title, t.user_story, t.acceptance_criteria, t.state, t.priority, t.state_change_reason,
+                   t.project_id, t.assignee_id, t.created_at, t.updated_at
+            """;
+    private static final String PROJECT_TASKS = TASK_COLUMNS + """
+            FROM tasks t
+            WHERE t.project_id = ? AND t.active = true
+            ORDER BY t.project_id, t.id
+            """;
+    private static final String DEPARTMENT_TASKS = TASK_COLUMNS + """
+            FROM tasks t
+            JOIN projects p ON p.id = t.project_id
+            WHERE p.department_id = ? AND p.active = true AND t.active = true
+            ORDER BY t.project_id, t.id
+            """;
+    private static final String TASK_COMMENTS = """
+            SELECT c.id, c.task_id, c.content, c.created_by, c.created_at
+            FROM comments c
+            WHERE c.task_id IN (:taskIds) AND c.active = true
+            ORDER BY c.task_id, c.id
+            """;
+    private static final String TASK_ATTACHMENTS = """
+            SELECT a.id, a.task_id, a.file_name, a.file_type, a.file_size, a.content_hash, a.created_by, a.created_at
+            FROM attachments a
+            WHERE a.task_id IN (:taskIds) AND a.active = true
+            ORDER BY a.task_id, a.id
+            """;
+    private static final List<String> CSV_HEADER = List.of("id", "title", "userStory", "acceptanceCriteria",
+            "state", "priority", "stateChangeReason", "projectId", "assigneeId", "createdAt", "updatedAt");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ProjectRepository projectRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${application.export.fetch-size:500}")
+    private int fetchSize;
+
+    public void validateExport(TaskExportRequest request) {
+        if ((request.projectId() == null) == (request.departmentId() == null))
+            throw new IllegalStateException(ErrorMessages.EXPORT_SCOPE_REQUIRED);
+
+        if (request.format() == DataFormat.CSV && (request.includeComments() || request.includeAttachments()))
+            throw new IllegalStateException(ErrorMessages.EXPORT_CSV_CHILDREN);
+
+        if (request.projectId() != null && projectRepository.findByIdAndActiveTrue(request.projectId()).isEmpty())
+            throw new EntityNotFoundException(String.format(ErrorMessages.PROJECT_NOT_FOUND, request.projectId()));
+
+        if (request.departmentId() != null && departmentRepository.findByIdAndActiveTrue(request.departmentId()).isEmpty())
+            throw new EntityNotFoundException(String.format(ErrorMessages.DEPARTMENT_NOT_FOUND, request.departmentId()));
+    }
+
+    public void exportTasks(TaskExportRequest request, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (request.format() == DataFormat.CSV)
+            writeCsvLine(writer, CSV_HEADER);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> streamTasks(request, writer));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void streamTasks(TaskExportRequest request, Writer writer) {
+        List<TaskExportRecord> buffer = new ArrayList<>(fetchSize);
+        jdbcTemplate.getJdbcTemplate().query(connection -> openTaskCursor(connection, request), (ResultSet rs) -> {
+            buffer.add(mapTask(rs));
+            if (buffer.size() == fetchSize)
+                writeTasks(buffer, request, writer);
+        });
+        writeTasks(buffer, request, writer);
+    }
+
+    private PreparedStatement openTaskCursor(Connection connection, TaskExportRequest request) throws SQLException {
+        boolean byProject = request.projectId() != null;
+        PreparedStatement statement = connection.prepareStatement(byProject ? PROJECT_TASKS : DEPARTMENT_TASKS,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        statement.setLong(1, byProject ? request.projectId() : request.departmentId());
+        return statement;
+    }
+
+    private void writeTasks(List<TaskExportRecord> tasks, TaskExportRequest request, Writer writer) {
+        if (tasks.isEmpty())
+            return;
+
+        List<Long> taskIds = tasks.stream().map(TaskExportRecord::id).toList();
+        Map<Long, List<CommentExportRecord>> comments = request.includeComments() ? findComments(taskIds) : null;
+        Map<Long, List<AttachmentExportRecord>> attachments = request.includeAttachments()
+                ? findAttachments(taskIds)
+                : null;
+
+        try {
+            for (TaskExportRecord task : tasks) {
+                if (request.format() == DataFormat.CSV) {
+                    writeCsvLine(writer, csvValues(task));
+                } else {
+                    TaskExportRecord exportRecord = task.withChildren(
+                            comments != null ? comments.getOrDefault(task.id(), List.of()) : null,
+                            attachments != null ? attachments.getOrDefault(task.id(), List.of()) : null);
+                    writer.write(toJson(exportRecord));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        tasks.clear();
+    }
+
+    private Map<Long, List<CommentExportRecord>> findComments(Collection<Long> taskIds) {
+        Map<Long, List<CommentExportRecord>> comments = new HashMap<>();
+        jdbcTemplate.query(TASK_COMMENTS, Map.of("taskIds", taskIds), (ResultSet rs) -> {
+            comments.computeIfAbsent(rs.getLong("task_id"), id -> new ArrayList<>())
+                    .add(new CommentExportRecord(
+                            rs.getLong("id"),
+                            rs.getString("content"),
+                            rs.getObject("created_by", Long.class),
+                            rs.getObject("created_at", LocalDateTime.class)));
+        });
+        return comments;
+    }
+
+    private Map<Long, List<AttachmentExportRecord>> findAttachments(Collection<Long> taskIds) {
+        Map<Long, List<AttachmentExportRecord>> attachments = new HashMap<>();
+        jdbcTemplate.query(TASK_ATTACHMENTS, Map.of("taskIds", taskIds), (ResultSet rs) -> {
+            attachments.computeIfAbsent(rs.getLong("task_id"), id -> new ArrayList<>())
+                    .add(new AttachmentExportRecord(
+                            rs.getLong("id"),
+                            rs.getString("file_name"),
+                            rs.getString("file_type"),
+                            rs.getLong("file_size"),
+                            rs.getString("content_hash"),
+                            rs.getObject("created_by", Long.class),
+                            rs.getObject("created_at", LocalDateTime.class)));
+        });
+        return attachments;
+    }
+
+    private TaskExportRecord mapTask(ResultSet rs) throws SQLException {
+        return new TaskExportRecord(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("user_story"),
+                rs.getString("acceptance_criteria"),
+                TaskState.valueOf(rs.getString("state")),
+                TaskPriority.valueOf(rs.getString("priority")),
+                rs.getString("state_change_reason"),
+                rs.getLong("project_id"),
+                rs.getObject("assignee_id", Long.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                null,
+                null);
+    }
+
+    private String toJson(TaskExportRecord exportRecord) {
+        try {
+            return objectMapper.writeValueAsString(exportRecord);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> csvValues(TaskExportRecord task) {
+        return Stream.of(task.id(), task.title(), task.userStory(), task.acceptanceCriteria(), task.state(),
+                        task.priority(), task.stateChangeReason(), task.projectId(), task.assigneeId(),
+                        task.createdAt(), task.updatedAt())
+                .map(value -> Objects.toString(value, ""))
+                .toList();
+    }
+
+    private void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        writer.write(values.stream().map(this::escapeCsv).collect(Collectors.joining(",")));
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value.isEmpty() || value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r'))
+            return value;
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
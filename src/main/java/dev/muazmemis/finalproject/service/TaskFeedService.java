@@ -0,0 +1,207 @@
+package dev.muazmemis.finalproject.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.muazmemis.finalproject.dto.task.TaskChangeMessage;
+import dev.muazmemis.finalproject.event.TaskChangeEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes committed task changes to Server-Sent Events subscribers. Recent events are kept so that a reconnecting
+ * client can resume from its last event id; a client that cannot resume, or falls more than its buffer behind,
+ * receives a {@code reset} event and should reload its tasks.
+ */
+@Slf4j
+@Service
+public class TaskFeedService {
+
+    static final String CHANGE_EVENT = "task-change";
+    static final String RESET_EVENT = "reset";
+
+    @Value("${application.task-feed.history-size:1000}")
+    private int historySize;
+
+    @Value("${application.task-feed.subscriber-buffer:256}")
+    private int subscriberBuffer;
+
+    @Value("${application.task-feed.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${application.task-feed.heartbeat:15s}")
+    private Duration heartbeat;
+
+    @Value("${application.task-feed.threads:2}")
+    private int threads;
+
+    // Seeded from the clock so that ids handed out before a restart are older than every id handed out after it.
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final Deque<FeedEntry> history = new ArrayDeque<>();
+    // A lock rather than a monitor: handing entries to the drain pool can block, which would pin a virtual thread.
+    private final Lock historyLock = new ReentrantLock();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    void init() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("task-feed-");
+        scheduler.initialize();
+        scheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeat);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        scheduler.shutdown();
+    }
+
+    public SseEmitter subscribe(Long projectId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        historyLock.lock();
+        try {
+            if (lastEventId != null && !canResume(lastEventId)) {
+                subscriber.reset();
+                return emitter;
+            }
+
+            if (lastEventId != null)
+                history.stream().filter(entry -> entry.id() > lastEventId).forEach(subscriber::offer);
+            subscribers.add(subscriber);
+        } finally {
+            historyLock.unlock();
+        }
+
+        log.info("Task feed subscribed: project {}, {} subscribers", projectId, subscribers.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        TaskChangeMessage message = new TaskChangeMessage(event.type(), event.taskId(), event.projectId(),
+                event.state(), LocalDateTime.now());
+
+        historyLock.lock();
+        try {
+            FeedEntry entry = new FeedEntry(sequence.incrementAndGet(), message);
+            history.addLast(entry);
+            if (history.size() > historySize)
+                history.removeFirst();
+
+            subscribers.forEach(subscriber -> subscriber.offer(entry));
+        } finally {
+            historyLock.unlock();
+        }
+    }
+
+    private boolean canResume(long lastEventId) {
+        long latest = sequence.get();
+        long oldest = history.isEmpty() ? latest + 1 : history.getFirst().id();
+        return lastEventId >= oldest - 1 && lastEventId <= latest;
+    }
+
+    private void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(SseEmitter.event().comment("heartbeat")));
+    }
+
+    private record FeedEntry(long id, TaskChangeMessage message) {
+    }
+
+    private final class Subscriber {
+
+        private final Long projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closing;
+
+        private Subscriber(Long projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void offer(FeedEntry entry) {
+            if (projectId == null || projectId.equals(entry.message().projectId()))
+                enqueue(SseEmitter.event()
+                        .id(String.valueOf(entry.id()))
+                        .name(CHANGE_EVENT)
+                        .data(entry.message()));
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closing)
+                return;
+
+            if (!queue.offer(event)) {
+                log.warn("Task feed subscriber fell behind; closing it with a reset");
+                reset();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Drops everything queued and ends the stream with a reset carrying the latest id, so that the client's
+         * automatic reconnect continues from the current position once it has reloaded.
+         */
+        void reset() {
+            closing = true;
+            subscribers.remove(this);
+            queue.clear();
+            queue.offer(SseEmitter.event()
+                    .id(String.valueOf(sequence.get()))
+                    .name(RESET_EVENT)
+                    .data("Task changes were missed; reload the tasks"));
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true))
+                scheduler.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queue.poll()) != null)
+                    emitter.send(event);
+                if (closing)
+                    emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Task feed subscriber disconnected", e);
+                closing = true;
+                subscribers.remove(this);
+                queue.clear();
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty())
+                scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package dev.muazmemis.finalproject.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.dto.task.TaskImportError;
+import dev.muazmemis.finalproject.dto.task.TaskImportRow;
+import dev.muazmemis.finalproject.dto.task.TaskImportStatus;
+import dev.muazmemis.finalproject.event.TaskChangeEvent;
+import dev.muazmemis.finalproject.event.TasksChangedEvent;
+import dev.muazmemis.finalproject.exception.TooManyRequestsException;
+import dev.muazmemis.finalproject.mapper.TaskMapper;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+import dev.muazmemis.finalproject.model.enums.DataFormat;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.TaskImportState;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.ProjectRepository;
+import dev.muazmemis.finalproject.repository.TaskRepository;
+import dev.muazmemis.finalproject.repository.UserRepository;
+import dev.muazmemis.finalproject.util.CsvReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("title", "userStory", "acceptanceCriteria",
+            "priority", "projectId");
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+
+    @Value("${application.task-import.threads:2}")
+    private int threads;
+
+    @Value("${application.task-import.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${application.task-import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${application.task-import.retention:1h}")
+    private Duration retention;
+
+    @Value("${application.task-import.retry-after:30s}")
+    private Duration retryAfter;
+
+    private ThreadPoolTaskExecutor executor;
+    private Cache<UUID, ImportJob> jobs;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("task-import-");
+        executor.initialize();
+
+        jobs = Caffeine.newBuilder()
+                .expireAfter(new FinishedJobExpiry())
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public TaskImportStatus submitImport(MultipartFile file, DataFormat format) throws IOException {
+        Path source = Files.createTempFile("task-import-", "." + format.name().toLowerCase(Locale.ROOT));
+        try {
+            file.transferTo(source);
+        } catch (IOException e) {
+            Files.deleteIfExists(source);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID());
+        jobs.put(job.id, job);
+        try {
+            executor.execute(new DelegatingSecurityContextRunnable(() -> runImport(job, source, format)));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.id);
+            Files.deleteIfExists(source);
+            throw new TooManyRequestsException(ErrorMessages.IMPORT_QUEUE_FULL, retryAfter);
+        }
+
+        log.info("Task import queued: {}", job.id);
+        return job.toStatus();
+    }
+
+    public TaskImportStatus getImportStatus(UUID id) {
+        ImportJob job = jobs.getIfPresent(id);
+        if (job == null)
+            throw new EntityNotFoundException(String.format(ErrorMessages.IMPORT_NOT_FOUND, id));
+
+        return job.toStatus();
+    }
+
+    private void runImport(ImportJob job, Path source, DataFormat format) {
+        job.state = TaskImportState.RUNNING;
+        ImportRun run = new ImportRun(job);
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            if (format == DataFormat.CSV)
+                readCsv(reader, run);
+            else
+                readNdjson(reader, run);
+            run.flush();
+            job.finish(TaskImportState.COMPLETED, null);
+            log.info("Task import {} completed: {} imported, {} failed", job.id, job.imported, job.failed);
+        } catch (IOException | RuntimeException e) {
+            log.error("Task import {} failed", job.id, e);
+            job.finish(TaskImportState.FAILED, e.getMessage());
+        } finally {
+            jobs.put(job.id, job);
+            try {
+                Files.deleteIfExists(source);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", source, e);
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (line.isBlank())
+                continue;
+
+            try {
+                run.accept(row, objectMapper.readValue(line, TaskImportRow.class));
+            } catch (JsonProcessingException e) {
+                run.reject(row, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null)
+            return;
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++)
+            columns.put(header.get(i).replace("\uFEFF", "").strip(), i);
+
+        List<String> missing = REQUIRED_CSV_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty())
+            throw new IllegalArgumentException("Missing CSV columns: " + String.join(", ", missing));
+
+        long row = 0;
+        List<String> fields;
+        while ((fields = csv.readRecord()) != null) {
+            row++;
+            if (fields.size() == 1 && fields.get(0).isBlank())
+                continue;
+
+            try {
+                run.accept(row, toImportRow(columns, fields));
+            } catch (IllegalArgumentException e) {
+                run.reject(row, e.getMessage());
+            }
+        }
+    }
+
+    private TaskImportRow toImportRow(Map<String, Integer> columns, List<String> fields) {
+        return new TaskImportRow(
+                csvValue(columns, fields, "title", Function.identity()),
+                csvValue(columns, fields, "userStory", Function.identity()),
+                csvValue(columns, fields, "acceptanceCriteria", Function.identity()),
+                csvValue(columns, fields, "priority", TaskPriority::valueOf),
+                csvValue(columns, fields, "projectId", Long::valueOf),
+                csvValue(columns, fields, "assigneeId", Long::valueOf),
+                csvValue(columns, fields, "state", TaskState::valueOf),
+                csvValue(columns, fields, "stateChangeReason", Function.identity()));
+    }
+
+    private <T> T csvValue(Map<String, Integer> columns, List<String> fields, String column,
+                           Function<String, T> parser) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isBlank())
+            return null;
+
+        String value = fields.get(index).strip();
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + column + ": " + value);
+        }
+    }
+
+    private Task toTask(TaskImportRow row) {
+        Task task = taskMapper.toEntity(row);
+        task.setProject(projectRepository.getReferenceById(row.projectId()));
+        if (row.assigneeId() != null)
+            task.setAssignee(userRepository.getReferenceById(row.assigneeId()));
+        return task;
+    }
+
+    private record PendingRow(long row, TaskImportRow importRow) {
+    }
+
+    private final class ImportRun {
+
+        private final ImportJob job;
+        private final Map<Long, Optional<String>> projectErrors = new HashMap<>();
+        private final Map<Long, Boolean> activeUsers = new HashMap<>();
+        private final List<PendingRow> batch = new ArrayList<>();
+
+        private ImportRun(ImportJob job) {
+            this.job = job;
+        }
+
+        void accept(long row, TaskImportRow importRow) {
+            job.processed.incrementAndGet();
+            String error = validate(importRow);
+            if (error != null) {
+                job.reject(row, error);
+                return;
+            }
+
+            batch.add(new PendingRow(row, importRow));
+            if (batch.size() >= batchSize)
+                flush();
+        }
+
+        void reject(long row, String error) {
+            job.processed.incrementAndGet();
+            job.reject(row, error);
+        }
+
+        void flush() {
+            if (batch.isEmpty())
+                return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Task> tasks = batch.stream().map(pending -> toTask(pending.importRow())).toList();
+                    taskRepository.saveAll(tasks);
+                    tasks.stream()
+                            .filter(task -> task.getState() != TaskState.COMPLETED)
+                            .collect(Collectors.groupingBy(task -> task.getProject().getId(), Collectors.counting()))
+                            .forEach(projectRepository::adjustOpenTaskCount);
+                    eventPublisher.publishEvent(new TasksChangedEvent(tasks.stream().map(Task::getId).toList()));
+                    tasks.forEach(task -> {
+                        eventPublisher.publishEvent(new TaskChangeEvent(ChangeType.CREATED, task.getId(),
+                                task.getProject().getId(), task.getState()));
+                        outboxService.append(AggregateType.TASK, task.getId(), ChangeType.CREATED,
+                                taskMapper.toResponse(task));
+                    });
+                });
+                job.imported.addAndGet(batch.size());
+            } catch (RuntimeException e) {
+                log.warn("Task import {} batch failed", job.id, e);
+                batch.forEach(pending -> job.reject(pending.row(), "Not imported: " + e.getMessage()));
+            }
+            batch.clear();
+        }
+
+        private String validate(TaskImportRow importRow) {
+            Set<ConstraintViolation<TaskImportRow>> violations = validator.validate(importRow);
+            if (!violations.isEmpty())
+                return violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+
+            if (importRow.state() != null && importRow.state().requiresReason()
+                    && (importRow.stateChangeReason() == null || importRow.stateChangeReason().isBlank()))
+                return "Reason is required when changing state to CANCELLED or BLOCKED";
+
+            Optional<String> projectError = projectErrors.computeIfAbsent(importRow.projectId(), this::projectError);
+            if (projectError.isPresent())
+                return projectError.get();
+
+            if (importRow.assigneeId() != null && !activeUsers.computeIfAbsent(importRow.assigneeId(),
+                    id -> userRepository.findByIdAndActiveTrue(id).isPresent()))
+                return String.format(ErrorMessages.USER_NOT_FOUND, importRow.assigneeId());
+
+            return null;
+        }
+
+        private Optional<String> projectError(Long projectId) {
+            Optional<Project> project = projectRepository.findByIdAndActiveTrue(projectId);
+            if (project.isEmpty())
+                return Optional.of(String.format(ErrorMessages.PROJECT_NOT_FOUND, projectId));
+
+            if (project.get().getStatus() == ProjectStatus.COMPLETED)
+                return Optional.of("Cannot create task in a completed project");
+
+            if (project.get().getStatus() == ProjectStatus.CANCELLED)
+                return Optional.of("Cannot create task in a cancelled project");
+
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Keeps queued and running jobs for as long as they run, and finished ones for the retention period after they
+     * finished.
+     */
+    private final class FinishedJobExpiry implements Expiry<UUID, ImportJob> {
+
+        @Override
+        public long expireAfterCreate(UUID id, ImportJob job, long currentTime) {
+            LocalDateTime finishedAt = job.finishedAt;
+            if (finishedAt == null)
+                return Long.MAX_VALUE;
+
+            Duration remaining = retention.minus(Duration.between(finishedAt, LocalDateTime.now()));
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID id, ImportJob job, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, job, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID id, ImportJob job, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static final class ImportJob {
+
+        private final UUID id;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<TaskImportError> errors = new ArrayList<>();
+        private volatile TaskImportState state = TaskImportState.QUEUED;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private ImportJob(UUID id) {
+            this.id = id;
+        }
+
+        void reject(long row, String message) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS)
+                    errors.add(new TaskImportError(row, message));
+            }
+        }
+
+        void finish(TaskImportState finalState, String failure) {
+            error = failure;
+            state = finalState;
+            finishedAt = LocalDateTime.now();
+        }
+
+        TaskImportStatus toStatus() {
+            List<TaskImportError> reportedErrors;
+            synchronized (errors) {
+                reportedErrors = List.copyOf(errors);
+            }
+            return new TaskImportStatus(id, state, processed.get(), imported.get(), failed.get(), reportedErrors,
+                    error, submittedAt, finishedAt);
+        }
+    }
+}
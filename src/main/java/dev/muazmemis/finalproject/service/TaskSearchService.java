@@ -0,0 +1,69 @@
+package dev.muazmemis.finalproject.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.constant.Pagination;
+import dev.muazmemis.finalproject.dto.common.CursorPageResponse;
+import dev.muazmemis.finalproject.dto.task.TaskResponse;
+import dev.muazmemis.finalproject.dto.task.TaskSearchQuery;
+import dev.muazmemis.finalproject.dto.task.TaskSearchResult;
+import dev.muazmemis.finalproject.mapper.TaskResponseAssembler;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.repository.TaskRepository;
+import dev.muazmemis.finalproject.repository.TaskSearchRepository;
+import dev.muazmemis.finalproject.repository.projection.TaskSearchHit;
+import dev.muazmemis.finalproject.util.CursorUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+    private final TaskSearchRepository taskSearchRepository;
+    private final TaskRepository taskRepository;
+    private final TaskResponseAssembler taskResponseAssembler;
+
+    /**
+     * Ranked results have no stable key to seek from, so the cursor carries the offset of the next page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskSearchResult> searchTasks(TaskSearchQuery query, String cursor, Integer size) {
+        if (query.text() == null || query.text().isBlank())
+            throw new IllegalStateException(ErrorMessages.SEARCH_QUERY_REQUIRED);
+
+        int pageSize = Pagination.resolvePageSize(size);
+        int offset = CursorUtils.decodeOffset(cursor);
+
+        List<TaskSearchHit> hits = taskSearchRepository.search(query, offset, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        if (hasNext)
+            hits = hits.subList(0, pageSize);
+
+        Map<Long, Task> tasks = taskRepository.findAllByIdInAndActiveTrue(
+                        hits.stream().map(TaskSearchHit::taskId).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskSearchHit> found = hits.stream().filter(hit -> tasks.containsKey(hit.taskId())).toList();
+        List<TaskResponse> responses = taskResponseAssembler.toResponseList(
+                found.stream().map(hit -> tasks.get(hit.taskId())).toList());
+
+        List<TaskSearchResult> results = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size(); i++)
+            results.add(new TaskSearchResult(responses.get(i), found.get(i).rank()));
+
+        String nextCursor = hasNext ? CursorUtils.encodeOffset(offset + pageSize) : null;
+
+        log.info("Tasks found for search: {}", results.size());
+        return new CursorPageResponse<>(results, nextCursor, hasNext);
+    }
+}
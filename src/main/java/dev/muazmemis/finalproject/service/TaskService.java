@@ -1,28 +1,57 @@
 package dev.muazmemis.finalproject.service;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.constant.Pagination;
+import dev.muazmemis.finalproject.dto.common.CursorPageResponse;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateItem;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateRequest;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateResponse;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateResult;
+import dev.muazmemis.finalproject.dto.task.TaskFilter;
 import dev.muazmemis.finalproject.dto.task.TaskRequest;
 import dev.muazmemis.finalproject.dto.task.TaskResponse;
 import dev.muazmemis.finalproject.dto.task.TaskStateUpdateRequest;
+import dev.muazmemis.finalproject.dto.task.TaskTransitionsResponse;
 import dev.muazmemis.finalproject.dto.task.TaskUpdateRequest;
+import dev.muazmemis.finalproject.event.TaskChangeEvent;
+import dev.muazmemis.finalproject.event.TasksChangedEvent;
+import dev.muazmemis.finalproject.exception.PreconditionFailedException;
 import dev.muazmemis.finalproject.exception.TaskStateException;
 import dev.muazmemis.finalproject.mapper.TaskMapper;
+import dev.muazmemis.finalproject.mapper.TaskResponseAssembler;
 import dev.muazmemis.finalproject.model.entity.Attachment;
 import dev.muazmemis.finalproject.model.entity.Project;
 import dev.muazmemis.finalproject.model.entity.Task;
 import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
 import dev.muazmemis.finalproject.model.enums.ProjectStatus;
 import dev.muazmemis.finalproject.model.enums.TaskState;
 import dev.muazmemis.finalproject.repository.AttachmentRepository;
 import dev.muazmemis.finalproject.repository.ProjectRepository;
 import dev.muazmemis.finalproject.repository.TaskRepository;
 import dev.muazmemis.finalproject.repository.UserRepository;
+import dev.muazmemis.finalproject.util.CursorUtils;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,47 +61,46 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final int STATE_UPDATE_ATTEMPTS = 3;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final TaskResponseAssembler taskResponseAssembler;
     private final AttachmentService attachmentService;
     private final AttachmentRepository attachmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final AuditorAware<User> auditorAware;
+    private final EntityManager entityManager;
 
-    @Transactional
     public TaskResponse saveTask(TaskRequest request) throws IOException {
-        Project project = projectRepository.findByIdAndActiveTrue(request.projectId())
-                .orElseThrow(() -> new EntityNotFoundException(
-                        String.format(ErrorMessages.PROJECT_NOT_FOUND, request.projectId())));
-
-        if (project.getStatus() == ProjectStatus.COMPLETED)
-            throw new IllegalStateException("Cannot create task in a completed project");
-
-        if (project.getStatus() == ProjectStatus.CANCELLED)
-            throw new IllegalStateException("Cannot create task in a cancelled project");
-
-        Task task = taskMapper.toEntity(request);
-        task.setProject(project);
-
-        if (request.assigneeId() != null) {
-            User assignee = userRepository.findByIdAndActiveTrue(request.assigneeId())
-                    .orElseThrow(() -> new EntityNotFoundException(
-                            String.format(ErrorMessages.USERNAME_NOT_FOUND, request.assigneeId())));
-            task.setAssignee(assignee);
-        }
-
-        task = taskRepository.save(task);
-
-        if (request.files() != null && !request.files().isEmpty()) {
-            List<Attachment> attachments = attachmentService.saveAttachmentFiles(request.files());
-            Task finalTask = task;
-            attachments.forEach(attachment -> attachment.setTask(finalTask));
-            attachmentRepository.saveAll(attachments);
-            task.setAttachments(attachments);
+        List<Attachment> attachments = request.files() != null && !request.files().isEmpty()
+                ? attachmentService.saveAttachmentFiles(request.files())
+                : List.of();
+
+        try {
+            TaskResponse response = transactionTemplate.execute(status -> persistTask(request, attachments));
+            if (!attachments.isEmpty())
+                attachmentService.releaseAttachmentFiles(attachments);
+            return response;
+        } catch (RuntimeException e) {
+            if (!attachments.isEmpty())
+                attachmentService.deleteAttachmentFiles(attachments);
+            throw e;
         }
+    }
 
-        log.info("Task saved: {}", task.getTitle());
-        return taskMapper.toResponse(task);
+    /**
+     * Looks up what a task's response depends on without loading the task, so that an unchanged task can be
+     * answered with 304 Not Modified.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getTaskVersion(Long id) {
+        return taskRepository.findResourceVersion(id)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.TASK_NOT_FOUND, id)));
     }
 
     @Transactional(readOnly = true)
@@ -85,22 +113,58 @@ public class TaskService {
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllTasks() {
-        List<Task> tasks = taskRepository.findAllActiveTasks();
+    public TaskTransitionsResponse getAllowedTransitions(Long id) {
+        Task task = taskRepository.findByIdAndActiveTrue(id)
+                .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.TASK_NOT_FOUND, id)));
+
+        return new TaskTransitionsResponse(task.getId(), task.getState(), task.getState().allowedTransitions());
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskTransitionsResponse> getAllowedTransitions(List<Long> ids) {
+        if (ids.size() > Pagination.MAX_PAGE_SIZE)
+            throw new IllegalStateException("At most " + Pagination.MAX_PAGE_SIZE + " task ids can be requested at once");
+
+        List<TaskTransitionsResponse> transitions = taskRepository.findAllByIdInAndActiveTrue(ids).stream()
+                .map(task -> new TaskTransitionsResponse(task.getId(), task.getState(),
+                        task.getState().allowedTransitions()))
+                .toList();
+
+        log.info("Allowed transitions found for {} tasks", transitions.size());
+        return transitions;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getTasks(TaskFilter filter, String cursor, Integer size) {
+        int pageSize = Pagination.resolvePageSize(size);
+        Long afterId = CursorUtils.decodeId(cursor);
+
+        List<Task> tasks = taskRepository.findActiveTasksAfter(afterId, filter.projectId(), filter.assigneeId(),
+                filter.state(), filter.priority(), pageSize + 1);
+
+        boolean hasNext = tasks.size() > pageSize;
+        if (hasNext)
+            tasks = tasks.subList(0, pageSize);
+
+        String nextCursor = hasNext ? CursorUtils.encodeId(tasks.get(tasks.size() - 1).getId()) : null;
 
         log.info("Tasks found: {}", tasks.size());
-        return taskMapper.toResponseList(tasks);
+        return new CursorPageResponse<>(taskResponseAssembler.toResponseList(tasks), nextCursor, hasNext);
     }
 
     @Transactional
-    public TaskResponse updateTask(Long id, TaskUpdateRequest request) {
+    public TaskResponse updateTask(Long id, TaskUpdateRequest request, Long expectedVersion) {
         Task task = taskRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.TASK_NOT_FOUND, id)));
 
+        checkVersion(task, expectedVersion);
         if (task.getState() == TaskState.COMPLETED)
             throw new TaskStateException("Cannot update a completed task");
 
+        TaskState previousState = task.getState();
         taskMapper.updateEntity(task, request);
+        if (task.getState() == TaskState.COMPLETED)
+            adjustOpenTaskCount(task, -1);
 
         if (request.assigneeId() != null) {
             User assignee = userRepository.findByIdAndActiveTrue(request.assigneeId())
@@ -109,22 +173,120 @@ public class TaskService {
             task.setAssignee(assignee);
         }
 
+        Task saved = taskRepository.save(task);
+        // Flush now so that a concurrent change fails here and the response carries the incremented version.
+        taskRepository.flush();
+        TaskResponse response = taskMapper.toResponse(saved);
+        eventPublisher.publishEvent(new TasksChangedEvent(List.of(task.getId())));
+        publishChange(task.getState() != previousState ? ChangeType.STATE_CHANGED : ChangeType.UPDATED, task, response);
         log.info("Task updated: {}", task.getTitle());
-        return taskMapper.toResponse(taskRepository.save(task));
+        return response;
     }
 
+    /**
+     * Applies a state transition with a single conditional UPDATE on the state and version that were validated, so
+     * concurrent transitions need no row lock. If the task changed in between, it is re-read and the transition
+     * re-validated; with an expected version the caller's If-Match then fails instead.
+     */
     @Transactional
-    public TaskResponse updateTaskState(Long id, TaskStateUpdateRequest request) {
+    public TaskResponse updateTaskState(Long id, TaskStateUpdateRequest request, Long expectedVersion) {
         Task task = taskRepository.findByIdAndActiveTrue(id)
                 .orElseThrow(() -> new EntityNotFoundException(String.format(ErrorMessages.TASK_NOT_FOUND, id)));
 
-        validateTaskStateUpdate(task, request);
+        for (int attempt = 1; ; attempt++) {
+            checkVersion(task, expectedVersion);
+            validateTaskStateUpdate(task.getState(), request.state(), request.reason());
+
+            int updated = taskRepository.updateStateIfUnchanged(id, task.getState(), task.getVersion(),
+                    request.state(), request.reason(), LocalDateTime.now(),
+                    auditorAware.getCurrentAuditor().orElse(null));
+            entityManager.refresh(task);
+            if (updated == 1)
+                break;
+
+            if (!task.isActive())
+                throw new EntityNotFoundException(String.format(ErrorMessages.TASK_NOT_FOUND, id));
+            if (attempt == STATE_UPDATE_ATTEMPTS)
+                throw new ObjectOptimisticLockingFailureException(Task.class, id);
+            log.info("Task {} changed concurrently, retrying state update", id);
+        }
 
-        task.setState(request.state());
-        task.setStateChangeReason(request.reason());
+        if (request.state() == TaskState.COMPLETED)
+            adjustOpenTaskCount(task, -1);
 
+        TaskResponse response = taskMapper.toResponse(task);
+        eventPublisher.publishEvent(new TasksChangedEvent(List.of(task.getId())));
+        publishChange(ChangeType.STATE_CHANGED, task, response);
         log.info("Task state updated: {} - {}", task.getTitle(), task.getState());
-        return taskMapper.toResponse(taskRepository.save(task));
+        return response;
+    }
+
+    @Transactional
+    public TaskBulkStateUpdateResponse updateTaskStates(TaskBulkStateUpdateRequest request) {
+        Set<Long> ids = request.items().stream()
+                .map(TaskBulkStateUpdateItem::taskId)
+                .collect(Collectors.toSet());
+        Map<Long, Task> tasks = taskRepository.findAllByIdInAndActiveTrue(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Map<Long, TaskState> plannedStates = new HashMap<>();
+        List<TaskBulkStateUpdateResult> results = new ArrayList<>();
+        int failed = 0;
+
+        for (TaskBulkStateUpdateItem item : request.items()) {
+            Task task = tasks.get(item.taskId());
+            String error = null;
+
+            if (task == null) {
+                error = String.format(ErrorMessages.TASK_NOT_FOUND, item.taskId());
+            } else {
+                try {
+                    validateTaskStateUpdate(plannedStates.getOrDefault(task.getId(), task.getState()),
+                            item.state(), item.reason());
+                    plannedStates.put(task.getId(), item.state());
+                } catch (TaskStateException e) {
+                    error = e.getMessage();
+                }
+            }
+
+            if (error != null)
+                failed++;
+            results.add(new TaskBulkStateUpdateResult(item.taskId(), item.state(), error == null, error));
+        }
+
+        if (request.atomic() && failed > 0) {
+            log.info("Bulk task state update aborted: {} of {} transitions invalid", failed, results.size());
+            return new TaskBulkStateUpdateResponse(0, failed, results.stream()
+                    .map(result -> result.updated()
+                            ? new TaskBulkStateUpdateResult(result.taskId(), result.state(), false,
+                                    ErrorMessages.BULK_UPDATE_ABORTED)
+                            : result)
+                    .toList());
+        }
+
+        Map<Long, Long> completedByProject = new HashMap<>();
+        Set<Long> updatedIds = new LinkedHashSet<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (!results.get(i).updated())
+                continue;
+
+            TaskBulkStateUpdateItem item = request.items().get(i);
+            Task task = tasks.get(item.taskId());
+            updatedIds.add(task.getId());
+            task.setState(item.state());
+            task.setStateChangeReason(item.reason());
+            if (item.state() == TaskState.COMPLETED)
+                completedByProject.merge(task.getProject().getId(), 1L, Long::sum);
+        }
+        completedByProject.forEach((projectId, completed) ->
+                projectRepository.adjustOpenTaskCount(projectId, -completed));
+        if (!updatedIds.isEmpty()) {
+            eventPublisher.publishEvent(new TasksChangedEvent(updatedIds));
+            publishStateChanges(updatedIds.stream().map(tasks::get).toList());
+        }
+
+        log.info("Bulk task state update: {} updated, {} failed", results.size() - failed, failed);
+        return new TaskBulkStateUpdateResponse(results.size() - failed, failed, results);
     }
 
     @Transactional
@@ -136,46 +298,93 @@ public class TaskService {
             throw new TaskStateException("Cannot delete a completed task");
 
         task.setActive(false);
+        adjustOpenTaskCount(task, -1);
 
         log.info("Task deleted: {}", task.getTitle());
         taskRepository.save(task);
+        eventPublisher.publishEvent(new TasksChangedEvent(List.of(task.getId())));
+        publishChange(ChangeType.DELETED, task, taskMapper.toResponse(task));
     }
 
-    private void validateTaskStateUpdate(Task task, TaskStateUpdateRequest request) {
-        if (task.getState() == TaskState.COMPLETED)
-            throw new TaskStateException("Cannot change state of a completed task");
+    private TaskResponse persistTask(TaskRequest request, List<Attachment> attachments) {
+        Project project = projectRepository.findByIdAndActiveTrue(request.projectId())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format(ErrorMessages.PROJECT_NOT_FOUND, request.projectId())));
 
-        if ((request.state() == TaskState.CANCELLED || request.state() == TaskState.BLOCKED)
-                && request.reason() == null)
-            throw new TaskStateException("Reason is required when changing state to CANCELLED or BLOCKED");
+        if (project.getStatus() == ProjectStatus.COMPLETED)
+            throw new IllegalStateException("Cannot create task in a completed project");
 
-        validateStateTransition(task.getState(), request.state());
-    }
+        if (project.getStatus() == ProjectStatus.CANCELLED)
+            throw new IllegalStateException("Cannot create task in a cancelled project");
 
-    private void validateStateTransition(TaskState currentState, TaskState newState) {
-        if (newState == TaskState.CANCELLED)
-            return;
+        Task task = taskMapper.toEntity(request);
+        task.setProject(project);
 
-        if (newState == TaskState.BLOCKED) {
-            if (currentState != TaskState.IN_ANALYSIS && currentState != TaskState.IN_PROGRESS)
-                throw new TaskStateException("Only tasks in IN_ANALYSIS or IN_PROGRESS can be blocked");
-            return;
+        if (request.assigneeId() != null) {
+            User assignee = userRepository.findByIdAndActiveTrue(request.assigneeId())
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            String.format(ErrorMessages.USERNAME_NOT_FOUND, request.assigneeId())));
+            task.setAssignee(assignee);
         }
 
-        switch (currentState) {
-            case BACKLOG:
-                if (newState != TaskState.IN_ANALYSIS)
-                    throw new TaskStateException("Tasks in BACKLOG can only move to IN_ANALYSIS");
-                return;
-            case IN_ANALYSIS:
-                if (newState != TaskState.BACKLOG && newState != TaskState.IN_PROGRESS)
-                    throw new TaskStateException("Tasks in IN_ANALYSIS can only move to BACKLOG or IN_PROGRESS");
-                return;
-            case IN_PROGRESS:
-                if (newState != TaskState.IN_ANALYSIS && newState != TaskState.COMPLETED)
-                    throw new TaskStateException("Tasks in IN_PROGRESS can only move to IN_ANALYSIS or COMPLETED");
-                return;
-            default:
+        task = taskRepository.save(task);
+        adjustOpenTaskCount(task, 1);
+
+        if (!attachments.isEmpty()) {
+            Task finalTask = task;
+            attachments.forEach(attachment -> attachment.setTask(finalTask));
+            attachmentRepository.saveAll(attachments);
+            task.setAttachments(attachments);
         }
+
+        TaskResponse response = taskMapper.toResponse(task);
+        eventPublisher.publishEvent(new TasksChangedEvent(List.of(task.getId())));
+        publishChange(ChangeType.CREATED, task, response);
+        log.info("Task saved: {}", task.getTitle());
+        return response;
+    }
+
+    private void publishStateChanges(List<Task> updatedTasks) {
+        Map<Long, TaskResponse> responses = taskResponseAssembler.toResponseList(updatedTasks).stream()
+                .collect(Collectors.toMap(TaskResponse::id, Function.identity()));
+        updatedTasks.forEach(task -> publishChange(ChangeType.STATE_CHANGED, task, responses.get(task.getId())));
+    }
+
+    private void publishChange(ChangeType type, Task task, TaskResponse response) {
+        eventPublisher.publishEvent(new TaskChangeEvent(type, task.getId(), task.getProject().getId(), task.getState()));
+        outboxService.append(AggregateType.TASK, task.getId(), type, response);
+    }
+
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && task.getVersion() != expectedVersion)
+            throw new PreconditionFailedException(String.format(ErrorMessages.VERSION_MISMATCH, "Task", task.getId(),
+                    expectedVersion, task.getVersion()));
+    }
+
+    private void adjustOpenTaskCount(Task task, long delta) {
+        projectRepository.adjustOpenTaskCount(task.getProject().getId(), delta);
+    }
+
+    private void validateTaskStateUpdate(TaskState currentState, TaskState newState, String reason) {
+        if (currentState == TaskState.COMPLETED)
+            throw new TaskStateException("Cannot change state of a completed task");
+
+        if (newState.requiresReason() && reason == null)
+            throw new TaskStateException("Reason is required when changing state to CANCELLED or BLOCKED");
+
+        if (!currentState.canTransitionTo(newState))
+            throw new TaskStateException(transitionError(currentState, newState));
+    }
+
+    private String transitionError(TaskState currentState, TaskState newState) {
+        if (newState == TaskState.BLOCKED)
+            return "Only tasks in IN_ANALYSIS or IN_PROGRESS can be blocked";
+
+        return switch (currentState) {
+            case BACKLOG -> "Tasks in BACKLOG can only move to IN_ANALYSIS";
+            case IN_ANALYSIS -> "Tasks in IN_ANALYSIS can only move to BACKLOG or IN_PROGRESS";
+            case IN_PROGRESS -> "Tasks in IN_PROGRESS can only move to IN_ANALYSIS or COMPLETED";
+            default -> "Tasks in " + currentState + " cannot move to " + newState;
+        };
     }
 }
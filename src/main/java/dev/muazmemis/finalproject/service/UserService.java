@@ -8,6 +8,7 @@ import dev.muazmemis.finalproject.exception.UserNameAlreadyExistException;
 import dev.muazmemis.finalproject.mapper.UserMapper;
 import dev.muazmemis.finalproject.model.entity.User;
 import dev.muazmemis.finalproject.repository.UserRepository;
+import dev.muazmemis.finalproject.security.PrincipalCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Transactional
     public UserResponse saveUser(UserRequest request) {
@@ -68,9 +70,14 @@ public class UserService {
         if (userRepository.existsByUsernameAndActiveTrue(request.username()) && !user.getUsername().equals(request.username()))
             throw new UserNameAlreadyExistException(request.username());
 
+        principalCache.evict(user.getUsername());
+        principalCache.evict(request.username());
+
         User userUpdate = userMapper.toEntity(request);
         userUpdate.setId(id);
-        userUpdate.setPassword(passwordEncoder.encode(request.password()));
+        userUpdate.setPassword(isPasswordUnchanged(request.password())
+                ? user.getPassword()
+                : passwordEncoder.encode(request.password()));
 
         log.info("User updated: {}", userUpdate.getUsername());
         return userMapper.toResponse(userRepository.save(userUpdate));
@@ -82,8 +89,17 @@ public class UserService {
                 new EntityNotFoundException(String.format(ErrorMessages.USER_NOT_FOUND, id)));
 
         user.setActive(false);
+        principalCache.evict(user.getUsername());
 
         log.info("User deleted: {}", user.getUsername());
         userRepository.save(user);
     }
+
+    /**
+     * A profile update that leaves the password out, or echoes back the masked value from a read, keeps the stored
+     * hash instead of paying for a new one.
+     */
+    private boolean isPasswordUnchanged(String password) {
+        return password == null || password.isBlank() || password.equals(UserMapper.MASKED_PASSWORD);
+    }
 }
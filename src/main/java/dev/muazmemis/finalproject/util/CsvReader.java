@@ -0,0 +1,73 @@
+package dev.muazmemis.finalproject.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 records one at a time. Quoted fields may contain commas, doubled quotes and line breaks.
+ * {@link #readRecord()} returns {@code null} at the end of the input.
+ */
+public final class CsvReader {
+
+    private final Reader reader;
+    private int next = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1)
+            return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1)
+                    throw new IOException("Unterminated quoted field");
+
+                if (c == '"') {
+                    if (peek() == '"') {
+                        field.append('"');
+                        read();
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n')
+                    read();
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        int c = next != -2 ? next : reader.read();
+        next = -2;
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (next == -2)
+            next = reader.read();
+        return next;
+    }
+}
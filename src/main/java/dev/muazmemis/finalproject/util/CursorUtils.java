@@ -0,0 +1,96 @@
+package dev.muazmemis.finalproject.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.exception.InvalidCursorException;
+
+public final class CursorUtils {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String OFFSET_PREFIX = "offset:";
+    private static final String CREATED_AT_PREFIX = "createdAt:";
+    private static final String KEY_SEPARATOR = "|";
+
+    private CursorUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static String encodeId(Long id) {
+        return encode(ID_PREFIX + id);
+    }
+
+    public static Long decodeId(String cursor) {
+        return decodeLong(cursor, ID_PREFIX);
+    }
+
+    public static String encodeOffset(int offset) {
+        return encode(OFFSET_PREFIX + offset);
+    }
+
+    public static int decodeOffset(String cursor) {
+        Long offset = decodeLong(cursor, OFFSET_PREFIX);
+        if (offset == null)
+            return 0;
+
+        if (offset < 0 || offset > Integer.MAX_VALUE)
+            throw new InvalidCursorException(String.format(ErrorMessages.INVALID_CURSOR, cursor));
+
+        return offset.intValue();
+    }
+
+    public static String encodeCreatedAt(LocalDateTime createdAt, Long id) {
+        return encode(CREATED_AT_PREFIX + createdAt + KEY_SEPARATOR + id);
+    }
+
+    public static CreatedAtKey decodeCreatedAt(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+
+        String value = decode(cursor);
+        int separator = value.lastIndexOf(KEY_SEPARATOR);
+        if (!value.startsWith(CREATED_AT_PREFIX) || separator < 0)
+            throw new InvalidCursorException(String.format(ErrorMessages.INVALID_CURSOR, cursor));
+
+        try {
+            return new CreatedAtKey(
+                    LocalDateTime.parse(value.substring(CREATED_AT_PREFIX.length(), separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException(String.format(ErrorMessages.INVALID_CURSOR, cursor));
+        }
+    }
+
+    private static Long decodeLong(String cursor, String prefix) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+
+        String value = decode(cursor);
+        if (!value.startsWith(prefix))
+            throw new InvalidCursorException(String.format(ErrorMessages.INVALID_CURSOR, cursor));
+
+        try {
+            return Long.parseLong(value.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(String.format(ErrorMessages.INVALID_CURSOR, cursor));
+        }
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(String.format(ErrorMessages.INVALID_CURSOR, cursor));
+        }
+    }
+
+    public record CreatedAtKey(LocalDateTime createdAt, Long id) {
+    }
+}
@@ -0,0 +1,69 @@
+package dev.muazmemis.finalproject.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.exception.PreconditionFailedException;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
+
+/**
+ * Entity tags for versioned resources. The tag is the entity's optimistic-locking version, so an If-Match header
+ * echoing it back maps directly onto the version check of the update. Reads carry a weak tag that starts with the
+ * same version and adds the last modification. If-Match needs a strong comparison, so a weak tag is only good for
+ * If-None-Match.
+ */
+public final class ETagUtils {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+    private static final String SEPARATOR = "-";
+
+    private ETagUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String toWeakETag(ResourceVersion resource) {
+        // Microseconds, the precision the timestamps are stored with, so that two changes within a second differ.
+        LocalDateTime lastModified = resource.lastModified();
+        long modified = lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        String tag = resource.version() == null ? String.valueOf(modified) : resource.version() + SEPARATOR + modified;
+        return WEAK_PREFIX + "\"" + tag + "\"";
+    }
+
+    public static long toLastModified(ResourceVersion resource) {
+        return resource.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Returns the version an If-Match header requires, or {@code null} when the header is absent or {@code *}. A weak
+     * tag never matches strongly, so it fails the precondition.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY))
+            return null;
+
+        String tag = ifMatch.trim();
+        if (tag.startsWith(WEAK_PREFIX))
+            throw new PreconditionFailedException(String.format(ErrorMessages.WEAK_IF_MATCH, ifMatch));
+
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\""))
+            throw new IllegalStateException(String.format(ErrorMessages.INVALID_IF_MATCH, ifMatch));
+
+        tag = tag.substring(1, tag.length() - 1);
+        int separator = tag.indexOf(SEPARATOR);
+        if (separator > 0)
+            tag = tag.substring(0, separator);
+
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(String.format(ErrorMessages.INVALID_IF_MATCH, ifMatch));
+        }
+    }
+}
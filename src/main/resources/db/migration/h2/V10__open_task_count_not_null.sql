@@ -0,0 +1,7 @@
+-- Backfill the open task counter of every project, so that task changes always adjust a counter instead of racing a
+-- lazy backfill. New projects start at 0.
+UPDATE projects p SET open_task_count = (
+    SELECT COUNT(*) FROM tasks t
+    WHERE t.project_id = p.id AND t.active = true AND t.state <> 'COMPLETED');
+ALTER TABLE projects ALTER COLUMN open_task_count SET DEFAULT 0;
+ALTER TABLE projects ALTER COLUMN open_task_count SET NOT NULL;
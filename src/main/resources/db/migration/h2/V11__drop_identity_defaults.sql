@@ -0,0 +1,9 @@
+-- Ids come only from the pooled sequences. The identity defaults would hand raw inserts ids that collide with the
+-- blocks Hibernate allocates, and nextval() is no substitute: the pooled optimizer treats each value as the end of a
+-- block of 50 ids it owns. Rows inserted outside Hibernate must now supply an id.
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE departments ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE projects ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE attachments ALTER COLUMN id DROP IDENTITY;
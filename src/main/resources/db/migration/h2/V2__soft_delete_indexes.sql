@@ -0,0 +1,25 @@
+-- Columns added to the entities after databases were first created by ddl-auto.
+ALTER TABLE attachments ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS open_task_count BIGINT;
+
+-- Foreign keys
+CREATE INDEX IF NOT EXISTS idx_projects_department_id ON projects (department_id);
+CREATE INDEX IF NOT EXISTS idx_project_team_members_user_id ON project_team_members (user_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_state_active ON tasks (project_id, state, active);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id ON tasks (assignee_id);
+CREATE INDEX IF NOT EXISTS idx_comments_task_id ON comments (task_id);
+CREATE INDEX IF NOT EXISTS idx_attachments_task_id ON attachments (task_id);
+
+-- Soft-delete access paths. H2 has no partial indexes, so the filter column leads instead.
+CREATE INDEX IF NOT EXISTS idx_users_active ON users (active, id);
+CREATE INDEX IF NOT EXISTS idx_departments_active ON departments (active, id);
+CREATE INDEX IF NOT EXISTS idx_projects_active ON projects (active, id);
+CREATE INDEX IF NOT EXISTS idx_projects_department_active ON projects (active, department_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_active ON tasks (active, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_active ON tasks (active, project_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_active ON tasks (active, assignee_id, id);
+CREATE INDEX IF NOT EXISTS idx_comments_task_active ON comments (active, task_id, id);
+CREATE INDEX IF NOT EXISTS idx_attachments_task_active ON attachments (active, task_id, id);
+
+DROP INDEX IF EXISTS idx_attachments_content_hash;
+CREATE INDEX IF NOT EXISTS idx_attachments_content_hash_active ON attachments (active, content_hash);
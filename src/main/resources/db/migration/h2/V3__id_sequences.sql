@@ -0,0 +1,8 @@
+-- Pooled id sequences, one per table. Hibernate hands out a block of 50 ids per call, so each sequence
+-- must start at least one block past the ids the identity columns already issued.
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM users) INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS departments_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM departments) INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS projects_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM projects) INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM tasks) INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM comments) INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS attachments_seq START WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM attachments) INCREMENT BY 50;
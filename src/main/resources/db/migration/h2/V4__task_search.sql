@@ -0,0 +1,3 @@
+-- H2 has no tsvector type. Full-text search runs on the in-memory index instead
+-- (application.search.engine=in-memory), so this version has no schema changes here.
+SELECT 1;
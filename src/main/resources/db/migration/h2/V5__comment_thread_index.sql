@@ -0,0 +1,2 @@
+-- Keyset pagination of a task's comment thread, ordered by (created_at, id).
+CREATE INDEX IF NOT EXISTS idx_comments_task_created_active ON comments (task_id, active, created_at, id);
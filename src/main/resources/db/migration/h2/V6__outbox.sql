@@ -0,0 +1,17 @@
+-- Changes written in the same transaction as the mutation that caused them, drained in id order by the outbox relay.
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id                  BIGINT PRIMARY KEY,
+    aggregate_type      VARCHAR(255)    NOT NULL CHECK (aggregate_type IN ('TASK', 'PROJECT', 'COMMENT', 'ATTACHMENT')),
+    aggregate_id        BIGINT          NOT NULL,
+    event_type          VARCHAR(255)    NOT NULL CHECK (event_type IN ('CREATED', 'UPDATED', 'STATE_CHANGED', 'DELETED')),
+    payload             VARCHAR(100000) NOT NULL,
+    created_at          TIMESTAMP(6)    NOT NULL,
+    published_at        TIMESTAMP(6),
+    attempts            INTEGER         NOT NULL DEFAULT 0,
+    last_error          VARCHAR(1000)
+);
+
+-- Pending rows in relay order.
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (published_at, id);
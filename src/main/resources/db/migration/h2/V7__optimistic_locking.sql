@@ -0,0 +1,9 @@
+-- Optimistic locking for tasks and projects. Existing rows start at version 0.
+-- Adding a column makes H2 rebuild the table, and the rebuilt foreign keys adopt any matching named index, which
+-- could then no longer be dropped on its own. The single-column foreign key indexes are recreated afterwards.
+DROP INDEX IF EXISTS idx_tasks_assignee_id;
+DROP INDEX IF EXISTS idx_projects_department_id;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_id ON tasks (assignee_id);
+CREATE INDEX IF NOT EXISTS idx_projects_department_id ON projects (department_id);
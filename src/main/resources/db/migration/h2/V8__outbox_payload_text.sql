@@ -0,0 +1,2 @@
+-- Payloads carry whole responses, and a large project's list of task ids does not fit a bounded column.
+ALTER TABLE outbox_events ALTER COLUMN payload SET DATA TYPE CHARACTER VARYING;
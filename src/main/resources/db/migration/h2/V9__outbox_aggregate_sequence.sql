@@ -0,0 +1,15 @@
+-- Pooled ids do not follow commit order, so events are ordered within their aggregate by a sequence assigned at
+-- write time instead. Existing rows are numbered in id order.
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS aggregate_sequence BIGINT;
+UPDATE outbox_events e SET aggregate_sequence = (
+    SELECT COUNT(*) FROM outbox_events p
+    WHERE p.aggregate_type = e.aggregate_type AND p.aggregate_id = e.aggregate_id AND p.id <= e.id);
+ALTER TABLE outbox_events ALTER COLUMN aggregate_sequence SET NOT NULL;
+
+-- Failed events wait until next_attempt_at; events that keep failing are parked and no longer retried.
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6);
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS parked_at TIMESTAMP(6);
+
+-- Two writers of the same aggregate cannot commit the same sequence; the relay also uses it to find each head event.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_outbox_events_aggregate_sequence
+    ON outbox_events (aggregate_type, aggregate_id, aggregate_sequence);
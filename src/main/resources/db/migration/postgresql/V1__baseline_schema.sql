@@ -0,0 +1,86 @@
+CREATE TABLE IF NOT EXISTS users (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name          VARCHAR(255) NOT NULL,
+    last_name           VARCHAR(255) NOT NULL,
+    username            VARCHAR(255) NOT NULL UNIQUE,
+    password            VARCHAR(255) NOT NULL,
+    role                VARCHAR(255) NOT NULL CHECK (role IN ('PROJECT_MANAGER', 'TEAM_LEADER', 'TEAM_MEMBER')),
+    active              BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    created_by          BIGINT REFERENCES users,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    updated_by          BIGINT REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS departments (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                VARCHAR(255) NOT NULL UNIQUE,
+    active              BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    created_by          BIGINT REFERENCES users,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    updated_by          BIGINT REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS projects (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title               VARCHAR(255) NOT NULL,
+    description         VARCHAR(255) NOT NULL,
+    status              VARCHAR(255) NOT NULL CHECK (status IN ('IN_PROGRESS', 'CANCELLED', 'COMPLETED')),
+    department_id       BIGINT       NOT NULL REFERENCES departments,
+    open_task_count     BIGINT,
+    active              BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    created_by          BIGINT REFERENCES users,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    updated_by          BIGINT REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS project_team_members (
+    project_id          BIGINT NOT NULL REFERENCES projects,
+    user_id             BIGINT NOT NULL REFERENCES users,
+    PRIMARY KEY (project_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title               VARCHAR(255) NOT NULL,
+    user_story          VARCHAR(255) NOT NULL,
+    acceptance_criteria VARCHAR(255) NOT NULL,
+    state               VARCHAR(255) NOT NULL CHECK (state IN ('BACKLOG', 'IN_ANALYSIS', 'IN_PROGRESS', 'BLOCKED', 'CANCELLED', 'COMPLETED')),
+    priority            VARCHAR(255) NOT NULL CHECK (priority IN ('CRITICAL', 'HIGH', 'MEDIUM', 'LOW')),
+    state_change_reason VARCHAR(255),
+    project_id          BIGINT       NOT NULL REFERENCES projects,
+    assignee_id         BIGINT REFERENCES users,
+    active              BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    created_by          BIGINT REFERENCES users,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    updated_by          BIGINT REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content             VARCHAR(255) NOT NULL,
+    task_id             BIGINT REFERENCES tasks,
+    active              BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    created_by          BIGINT REFERENCES users,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    updated_by          BIGINT REFERENCES users
+);
+
+CREATE TABLE IF NOT EXISTS attachments (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    file_name           VARCHAR(255) NOT NULL,
+    file_path           VARCHAR(255) NOT NULL,
+    file_type           VARCHAR(255) NOT NULL,
+    file_size           BIGINT       NOT NULL,
+    content_hash        VARCHAR(64),
+    task_id             BIGINT REFERENCES tasks,
+    active              BOOLEAN      NOT NULL,
+    created_at          TIMESTAMP(6) NOT NULL,
+    created_by          BIGINT REFERENCES users,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    updated_by          BIGINT REFERENCES users
+);
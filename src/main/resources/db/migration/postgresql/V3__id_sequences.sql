@@ -0,0 +1,15 @@
+-- Pooled id sequences, one per table. Hibernate hands out a block of 50 ids per call, so each sequence
+-- must start at least one block past the ids the identity columns already issued.
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS departments_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS projects_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS attachments_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
+SELECT setval('departments_seq', COALESCE((SELECT MAX(id) FROM departments), 0) + 50, false);
+SELECT setval('projects_seq', COALESCE((SELECT MAX(id) FROM projects), 0) + 50, false);
+SELECT setval('tasks_seq', COALESCE((SELECT MAX(id) FROM tasks), 0) + 50, false);
+SELECT setval('comments_seq', COALESCE((SELECT MAX(id) FROM comments), 0) + 50, false);
+SELECT setval('attachments_seq', COALESCE((SELECT MAX(id) FROM attachments), 0) + 50, false);
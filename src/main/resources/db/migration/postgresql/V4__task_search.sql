@@ -0,0 +1,60 @@
+-- Full-text search over a task's title, user story, acceptance criteria and active comments.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION task_search_vector(task tasks) RETURNS tsvector
+    LANGUAGE sql STABLE AS
+$$
+SELECT setweight(to_tsvector('english', coalesce(task.title, '')), 'A')
+           || setweight(to_tsvector('english', coalesce(task.user_story, '')), 'B')
+           || setweight(to_tsvector('english', coalesce(task.acceptance_criteria, '')), 'B')
+           || setweight(to_tsvector('english', coalesce((SELECT string_agg(c.content, ' ' ORDER BY c.id)
+                                                         FROM comments c
+                                                         WHERE c.task_id = task.id AND c.active), '')), 'C')
+$$;
+
+CREATE OR REPLACE FUNCTION tasks_search_vector_trigger() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    NEW.search_vector := task_search_vector(NEW);
+    RETURN NEW;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION comments_search_vector_trigger() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP <> 'INSERT' AND OLD.task_id IS NOT NULL THEN
+        UPDATE tasks t SET search_vector = task_search_vector(t) WHERE t.id = OLD.task_id;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.task_id IS NOT NULL
+        AND (TG_OP = 'INSERT' OR NEW.task_id IS DISTINCT FROM OLD.task_id) THEN
+        UPDATE tasks t SET search_vector = task_search_vector(t) WHERE t.id = NEW.task_id;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS tasks_search_vector_insert ON tasks;
+CREATE TRIGGER tasks_search_vector_insert
+    BEFORE INSERT ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_search_vector_trigger();
+
+DROP TRIGGER IF EXISTS tasks_search_vector_update ON tasks;
+CREATE TRIGGER tasks_search_vector_update
+    BEFORE UPDATE OF title, user_story, acceptance_criteria ON tasks
+    FOR EACH ROW
+    WHEN (OLD.title IS DISTINCT FROM NEW.title
+        OR OLD.user_story IS DISTINCT FROM NEW.user_story
+        OR OLD.acceptance_criteria IS DISTINCT FROM NEW.acceptance_criteria)
+    EXECUTE FUNCTION tasks_search_vector_trigger();
+
+DROP TRIGGER IF EXISTS comments_search_vector ON comments;
+CREATE TRIGGER comments_search_vector
+    AFTER INSERT OR DELETE OR UPDATE OF content, active, task_id ON comments
+    FOR EACH ROW EXECUTE FUNCTION comments_search_vector_trigger();
+
+UPDATE tasks t SET search_vector = task_search_vector(t);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
@@ -0,0 +1,3 @@
+-- Optimistic locking for tasks and projects. Existing rows start at version 0.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,37 @@
+package dev.muazmemis.finalproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(SchemaIndexCheck.class)
+class SchemaIndexCheckTest {
+
+    @Autowired
+    private SchemaIndexCheck schemaIndexCheck;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findMissingIndexes_MigrationsCreateEveryExpectedIndex() throws SQLException {
+        assertThat(schemaIndexCheck.findMissingIndexes()).isEmpty();
+    }
+
+    @Test
+    void findMissingIndexes_ReportsDroppedIndex() throws SQLException {
+        jdbcTemplate.execute("DROP INDEX idx_tasks_assignee_id");
+        try {
+            assertThat(schemaIndexCheck.findMissingIndexes()).containsExactly("tasks.idx_tasks_assignee_id");
+        } finally {
+            jdbcTemplate.execute("CREATE INDEX idx_tasks_assignee_id ON tasks (assignee_id)");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package dev.muazmemis.finalproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.muazmemis.finalproject.constant.CacheRegions;
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.repository.DepartmentRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+        "application.cache.second-level.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({SecondLevelCacheConfig.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findByIdAndActiveTrue_SecondLookupIsServedFromCache() {
+        Long id = saveDepartment("Cached");
+        transactionTemplate.executeWithoutResult(status -> departmentRepository.findByIdAndActiveTrue(id));
+        statistics.clear();
+
+        Department department = transactionTemplate.execute(status ->
+                departmentRepository.findByIdAndActiveTrue(id).orElseThrow());
+
+        assertThat(department.getName()).isEqualTo("Cached");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cacheHits()).isPositive();
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getCache().containsEntity(Department.class, id))
+                .isTrue();
+    }
+
+    @Test
+    void findByIdAndActiveTrue_SoftDeleteIsVisibleThroughCache() {
+        Long id = saveDepartment("Deleted");
+        transactionTemplate.executeWithoutResult(status -> departmentRepository.findByIdAndActiveTrue(id));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Department department = departmentRepository.findByIdAndActiveTrue(id).orElseThrow();
+            department.setActive(false);
+            departmentRepository.save(department);
+        });
+
+        Optional<Department> department = transactionTemplate.execute(status ->
+                departmentRepository.findByIdAndActiveTrue(id));
+        assertThat(department).isEmpty();
+    }
+
+    private Long saveDepartment(String name) {
+        return transactionTemplate.execute(status -> departmentRepository.save(Department.builder()
+                .name(name)
+                .active(true)
+                .build()).getId());
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheRegions.DEPARTMENTS)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+}
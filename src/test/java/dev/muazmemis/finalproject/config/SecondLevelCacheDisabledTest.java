@@ -0,0 +1,45 @@
+package dev.muazmemis.finalproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.repository.DepartmentRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheDisabledTest {
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void findByIdAndActiveTrue_FlagOff_DoesNotCacheEntity() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long id = transactionTemplate.execute(status -> departmentRepository.save(Department.builder()
+                .name("Uncached")
+                .active(true)
+                .build()).getId());
+
+        transactionTemplate.executeWithoutResult(status -> departmentRepository.findByIdAndActiveTrue(id));
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isFalse();
+        assertThat(sessionFactory.getCache().containsEntity(Department.class, id)).isFalse();
+    }
+}
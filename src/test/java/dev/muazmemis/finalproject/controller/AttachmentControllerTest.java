@@ -1,15 +1,22 @@
 package dev.muazmemis.finalproject.controller;
 
 import static dev.muazmemis.finalproject.constant.EndPoints.ATTACHMENT_ENDPOINT;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,11 +25,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import dev.muazmemis.finalproject.dto.attachment.AttachmentDownload;
 import dev.muazmemis.finalproject.dto.attachment.AttachmentRequest;
 import dev.muazmemis.finalproject.dto.attachment.AttachmentResponse;
 import dev.muazmemis.finalproject.service.AttachmentService;
@@ -38,6 +49,9 @@ class AttachmentControllerTest {
     @InjectMocks
     private AttachmentController attachmentController;
 
+    @TempDir
+    Path tempDir;
+
     private MockMultipartFile mockFile;
     private AttachmentResponse response;
 
@@ -99,4 +113,45 @@ class AttachmentControllerTest {
 
         verify(attachmentService).deleteAttachment(1L);
     }
+
+    @Test
+    void downloadAttachment_Success() throws Exception {
+        when(attachmentService.getAttachmentDownload(1L)).thenReturn(download());
+
+        mockMvc.perform(get(ATTACHMENT_ENDPOINT + "/1/content"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-12-1000\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("test.txt")))
+                .andExpect(content().string("test content"));
+    }
+
+    @Test
+    void downloadAttachment_Range_ReturnsPartialContent() throws Exception {
+        when(attachmentService.getAttachmentDownload(1L)).thenReturn(download());
+
+        mockMvc.perform(get(ATTACHMENT_ENDPOINT + "/1/content")
+                        .header(HttpHeaders.RANGE, "bytes=5-11"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-11/12"))
+                .andExpect(content().string("content"));
+    }
+
+    @Test
+    void downloadAttachment_IfNoneMatch_ReturnsNotModified() throws Exception {
+        when(attachmentService.getAttachmentDownload(1L)).thenReturn(download());
+
+        mockMvc.perform(get(ATTACHMENT_ENDPOINT + "/1/content")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-12-1000\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private AttachmentDownload download() throws IOException {
+        Path file = tempDir.resolve("test.txt");
+        Files.write(file, mockFile.getBytes());
+        return new AttachmentDownload("test.txt", "text/plain", new FileSystemResource(file), "\"1-12-1000\"",
+                Instant.ofEpochMilli(1000));
+    }
 }
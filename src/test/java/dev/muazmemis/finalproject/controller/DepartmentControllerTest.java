@@ -5,15 +5,18 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -30,7 +34,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import dev.muazmemis.finalproject.dto.department.DepartmentRequest;
 import dev.muazmemis.finalproject.dto.department.DepartmentResponse;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
 import dev.muazmemis.finalproject.service.DepartmentService;
+import dev.muazmemis.finalproject.util.ETagUtils;
 
 @ExtendWith(MockitoExtension.class)
 class DepartmentControllerTest {
@@ -45,6 +51,8 @@ class DepartmentControllerTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    private final ResourceVersion resource = new ResourceVersion(LocalDateTime.of(2024, 3, 1, 10, 0));
+
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(departmentController).build();
@@ -69,14 +77,29 @@ class DepartmentControllerTest {
     void getDepartmentById_Success() throws Exception {
         DepartmentResponse response = new DepartmentResponse(1L, "IT", List.of());
 
+        when(departmentService.getDepartmentVersion(1L)).thenReturn(resource);
         when(departmentService.getDepartmentById(1L)).thenReturn(response);
 
         mockMvc.perform(get(DEPARTMENT_ENDPOINT + "/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.toWeakETag(resource)))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, ETagUtils.toLastModified(resource)))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("IT")));
     }
 
+    @Test
+    void getDepartmentById_Unchanged_ReturnsNotModifiedWithoutLoading() throws Exception {
+        when(departmentService.getDepartmentVersion(1L)).thenReturn(resource);
+
+        mockMvc.perform(get(DEPARTMENT_ENDPOINT + "/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETagUtils.toWeakETag(resource)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.toWeakETag(resource)));
+
+        verify(departmentService, never()).getDepartmentById(any());
+    }
+
     @Test
     void getAllDepartments_Success() throws Exception {
         DepartmentResponse response = new DepartmentResponse(1L, "IT", List.of());
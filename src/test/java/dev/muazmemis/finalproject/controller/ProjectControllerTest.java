@@ -1,17 +1,22 @@
 package dev.muazmemis.finalproject.controller;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -31,8 +37,11 @@ import dev.muazmemis.finalproject.dto.project.ProjectResponse;
 import dev.muazmemis.finalproject.dto.project.ProjectStatusUpdateRequest;
 import dev.muazmemis.finalproject.dto.project.ProjectUpdateRequest;
 import dev.muazmemis.finalproject.dto.project.TeamMembersRequest;
+import dev.muazmemis.finalproject.exception.PreconditionFailedException;
 import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
 import dev.muazmemis.finalproject.service.ProjectService;
+import dev.muazmemis.finalproject.util.ETagUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ProjectControllerTest {
@@ -61,7 +70,7 @@ class ProjectControllerTest {
         request = new ProjectRequest("Project 1", "Description", 1L, List.of(1L, 2L));
 
         response = new ProjectResponse(1L, "Project 1", "Description", ProjectStatus.IN_PROGRESS, "Department 1",
-                List.of(1L, 2L), List.of(1L, 2L));
+                List.of(1L, 2L), List.of(1L, 2L), 3L);
 
         updateRequest = new ProjectUpdateRequest("Updated Project", "Updated Description", ProjectStatus.IN_PROGRESS,
                 List.of(1L, 2L));
@@ -85,10 +94,14 @@ class ProjectControllerTest {
 
     @Test
     void getProjectById_Success() throws Exception {
+        ResourceVersion resource = new ResourceVersion(3L, LocalDateTime.of(2024, 3, 1, 10, 0));
+        when(projectService.getProjectVersion(1L)).thenReturn(resource);
         when(projectService.getProjectById(1L)).thenReturn(response);
 
         mockMvc.perform(get("/api/v1/projects/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.toWeakETag(resource)))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, ETagUtils.toLastModified(resource)))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Project 1"));
     }
@@ -115,19 +128,33 @@ class ProjectControllerTest {
 
     @Test
     void updateProject_Success() throws Exception {
-        when(projectService.updateProject(eq(1L), any(ProjectUpdateRequest.class))).thenReturn(response);
+        when(projectService.updateProject(eq(1L), any(ProjectUpdateRequest.class), eq(2L))).thenReturn(response);
 
         mockMvc.perform(put("/api/v1/projects/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Project 1"));
     }
 
+    @Test
+    void updateProject_WeakIfMatch_FailsPrecondition() {
+        assertThatThrownBy(() -> mockMvc.perform(put("/api/v1/projects/1")
+                .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest))))
+                .hasCauseInstanceOf(PreconditionFailedException.class);
+
+        verifyNoInteractions(projectService);
+    }
+
     @Test
     void updateProjectStatus_Success() throws Exception {
-        when(projectService.updateProductStatus(eq(1L), any(ProjectStatusUpdateRequest.class))).thenReturn(response);
+        when(projectService.updateProductStatus(eq(1L), any(ProjectStatusUpdateRequest.class), isNull()))
+                .thenReturn(response);
 
         mockMvc.perform(patch("/api/v1/projects/1/status")
                 .contentType(MediaType.APPLICATION_JSON)
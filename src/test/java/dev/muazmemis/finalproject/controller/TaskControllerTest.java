@@ -1,20 +1,34 @@
 package dev.muazmemis.finalproject.controller;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import dev.muazmemis.finalproject.constant.EndPoints;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,20 +37,45 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.dto.comment.CommentResponse;
+import dev.muazmemis.finalproject.dto.common.CursorPageResponse;
+import dev.muazmemis.finalproject.dto.task.TaskExportRequest;
+import dev.muazmemis.finalproject.dto.task.TaskFilter;
+import dev.muazmemis.finalproject.dto.task.TaskImportError;
+import dev.muazmemis.finalproject.dto.task.TaskImportStatus;
 import dev.muazmemis.finalproject.dto.task.TaskRequest;
 import dev.muazmemis.finalproject.dto.task.TaskResponse;
+import dev.muazmemis.finalproject.dto.task.TaskSearchQuery;
+import dev.muazmemis.finalproject.dto.task.TaskSearchResult;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateItem;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateRequest;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateResponse;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateResult;
 import dev.muazmemis.finalproject.dto.task.TaskStateUpdateRequest;
+import dev.muazmemis.finalproject.dto.task.TaskTransitionsResponse;
 import dev.muazmemis.finalproject.dto.task.TaskUpdateRequest;
+import dev.muazmemis.finalproject.model.enums.DataFormat;
+import dev.muazmemis.finalproject.model.enums.TaskImportState;
 import dev.muazmemis.finalproject.model.enums.TaskPriority;
 import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
+import dev.muazmemis.finalproject.service.CommentService;
+import dev.muazmemis.finalproject.service.TaskExportService;
+import dev.muazmemis.finalproject.service.TaskFeedService;
+import dev.muazmemis.finalproject.service.TaskImportService;
+import dev.muazmemis.finalproject.service.TaskSearchService;
 import dev.muazmemis.finalproject.service.TaskService;
+import dev.muazmemis.finalproject.util.ETagUtils;
 
 @ExtendWith(MockitoExtension.class)
 class TaskControllerTest {
@@ -46,10 +85,27 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskExportService taskExportService;
+
+    @Mock
+    private TaskImportService taskImportService;
+
+    @Mock
+    private TaskSearchService taskSearchService;
+
+    @Mock
+    private CommentService commentService;
+
+    @Mock
+    private TaskFeedService taskFeedService;
+
     @InjectMocks
     private TaskController taskController;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ResourceVersion resource = new ResourceVersion(3L, LocalDateTime.of(2024, 3, 1, 10, 0));
     private TaskResponse taskResponse;
     private TaskUpdateRequest taskUpdateRequest;
     private TaskStateUpdateRequest taskStateUpdateRequest;
@@ -69,7 +125,8 @@ class TaskControllerTest {
                 1L,
                 1L,
                 new ArrayList<>(),
-                new ArrayList<>());
+                new ArrayList<>(),
+                3L);
 
         taskUpdateRequest = new TaskUpdateRequest(
                 "Updated Task Title",
@@ -110,48 +167,236 @@ class TaskControllerTest {
 
     @Test
     void getTaskById_Success() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(resource);
         when(taskService.getTaskById(1L)).thenReturn(taskResponse);
 
         mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.toWeakETag(resource)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Task Title"));
     }
 
     @Test
-    void getAllTasks_Success() throws Exception {
-        when(taskService.getAllTasks()).thenReturn(List.of(taskResponse));
+    void getTaskById_Unchanged_ReturnsNotModifiedWithoutLoading() throws Exception {
+        when(taskService.getTaskVersion(1L)).thenReturn(resource);
+
+        mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETagUtils.toWeakETag(resource)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getTaskById(any());
+    }
+
+    @Test
+    void getTaskById_Changed_ReturnsTask() throws Exception {
+        ResourceVersion previous = new ResourceVersion(2L, resource.lastModified().minusMinutes(1));
+        when(taskService.getTaskVersion(1L)).thenReturn(resource);
+        when(taskService.getTaskById(1L)).thenReturn(taskResponse);
 
-        mockMvc.perform(get(EndPoints.TASK_ENDPOINT))
+        mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETagUtils.toWeakETag(previous)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[0].title").value("Task Title"));
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.toWeakETag(resource)))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void getTasks_Success() throws Exception {
+        TaskFilter filter = new TaskFilter(1L, null, TaskState.BACKLOG, null);
+        when(taskService.getTasks(filter, "cursor", 10))
+                .thenReturn(new CursorPageResponse<>(List.of(taskResponse), "next", true));
+
+        mockMvc.perform(get(EndPoints.TASK_ENDPOINT)
+                        .param("projectId", "1")
+                        .param("state", "BACKLOG")
+                        .param("cursor", "cursor")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Task Title"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void getTaskComments_Success() throws Exception {
+        CommentResponse comment = new CommentResponse(3L, "Looks good", 1L, 7L, "author", null);
+        when(commentService.getTaskComments(1L, "cursor", 10))
+                .thenReturn(new CursorPageResponse<>(List.of(comment), "next", true));
+
+        mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/1/comments")
+                        .param("cursor", "cursor")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(3))
+                .andExpect(jsonPath("$.items[0].username").value("author"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void searchTasks_Success() throws Exception {
+        TaskSearchQuery query = new TaskSearchQuery("login page", 1L, TaskState.BACKLOG);
+        when(taskSearchService.searchTasks(query, null, 5))
+                .thenReturn(new CursorPageResponse<>(List.of(new TaskSearchResult(taskResponse, 0.6)), "next", true));
+
+        mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/search")
+                        .param("q", "login page")
+                        .param("projectId", "1")
+                        .param("state", "BACKLOG")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].task.id").value(1))
+                .andExpect(jsonPath("$.items[0].rank").value(0.6))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
     }
 
     @Test
     void updateTask_Success() throws Exception {
-        when(taskService.updateTask(eq(1L), any(TaskUpdateRequest.class))).thenReturn(taskResponse);
+        when(taskService.updateTask(eq(1L), any(TaskUpdateRequest.class), isNull())).thenReturn(taskResponse);
 
         mockMvc.perform(put(EndPoints.TASK_ENDPOINT + "/1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(taskUpdateRequest)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Task Title"));
     }
 
     @Test
     void updateTaskState_Success() throws Exception {
-        when(taskService.updateTaskState(eq(1L), any(TaskStateUpdateRequest.class))).thenReturn(taskResponse);
+        when(taskService.updateTaskState(eq(1L), any(TaskStateUpdateRequest.class), eq(2L))).thenReturn(taskResponse);
 
         mockMvc.perform(patch(EndPoints.TASK_ENDPOINT + "/1/state")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(taskStateUpdateRequest)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("Task Title"));
     }
 
+    @Test
+    void getAllowedTransitions_Success() throws Exception {
+        when(taskService.getAllowedTransitions(1L)).thenReturn(new TaskTransitionsResponse(1L, TaskState.BACKLOG,
+                TaskState.BACKLOG.allowedTransitions()));
+
+        mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/1/transitions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("BACKLOG"))
+                .andExpect(jsonPath("$.allowedStates.length()").value(2));
+    }
+
+    @Test
+    void getAllowedTransitions_Bulk_Success() throws Exception {
+        when(taskService.getAllowedTransitions(List.of(1L, 2L))).thenReturn(List.of(
+                new TaskTransitionsResponse(1L, TaskState.BACKLOG, TaskState.BACKLOG.allowedTransitions()),
+                new TaskTransitionsResponse(2L, TaskState.COMPLETED, TaskState.COMPLETED.allowedTransitions())));
+
+        mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/transitions").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].allowedStates").isEmpty());
+    }
+
+    @Test
+    void updateTaskStates_Success() throws Exception {
+        TaskBulkStateUpdateRequest bulkRequest = new TaskBulkStateUpdateRequest(List.of(
+                new TaskBulkStateUpdateItem(1L, TaskState.IN_ANALYSIS, null),
+                new TaskBulkStateUpdateItem(2L, TaskState.COMPLETED, null)), false);
+        TaskBulkStateUpdateResponse bulkResponse = new TaskBulkStateUpdateResponse(1, 1, List.of(
+                new TaskBulkStateUpdateResult(1L, TaskState.IN_ANALYSIS, true, null),
+                new TaskBulkStateUpdateResult(2L, TaskState.COMPLETED, false,
+                        "Tasks in BACKLOG can only move to IN_ANALYSIS")));
+        when(taskService.updateTaskStates(any(TaskBulkStateUpdateRequest.class))).thenReturn(bulkResponse);
+
+        mockMvc.perform(patch(EndPoints.TASK_ENDPOINT + "/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[1].error").value("Tasks in BACKLOG can only move to IN_ANALYSIS"));
+    }
+
+    @Test
+    void updateTaskStates_EmptyItems_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(patch(EndPoints.TASK_ENDPOINT + "/state")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkStateUpdateRequest(List.of(), false))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportTasks_StreamsCsv() throws Exception {
+        TaskExportRequest exportRequest = new TaskExportRequest(1L, null, DataFormat.CSV, false, false);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id,title\r\n1,Task Title\r\n".getBytes());
+            return null;
+        }).when(taskExportService).exportTasks(eq(exportRequest), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/export")
+                        .param("projectId", "1")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().string("id,title\r\n1,Task Title\r\n"));
+
+        verify(taskExportService).validateExport(exportRequest);
+    }
+
+    @Test
+    void exportTasks_InvalidScope_DoesNotStream() {
+        doThrow(new IllegalStateException(ErrorMessages.EXPORT_SCOPE_REQUIRED))
+                .when(taskExportService).validateExport(any(TaskExportRequest.class));
+
+        assertThatThrownBy(() -> mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/export")))
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        verifyNoMoreInteractions(taskExportService);
+    }
+
+    @Test
+    void importTasks_ReturnsAcceptedWithStatusLocation() throws Exception {
+        UUID importId = UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7");
+        TaskImportStatus importStatus = new TaskImportStatus(importId, TaskImportState.QUEUED, 0, 0, 0, List.of(),
+                null, LocalDateTime.now(), null);
+        when(taskImportService.submitImport(any(), eq(DataFormat.CSV))).thenReturn(importStatus);
+        MockMultipartFile file = new MockMultipartFile("file", "tasks.csv", "text/csv", "title\r\n".getBytes());
+
+        mockMvc.perform(multipart(EndPoints.TASK_ENDPOINT + "/import")
+                        .file(file)
+                        .param("format", "CSV"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION,
+                        "http://localhost" + EndPoints.TASK_ENDPOINT + "/import/" + importId))
+                .andExpect(jsonPath("$.id").value(importId.toString()))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+    }
+
+    @Test
+    void getImportStatus_Success() throws Exception {
+        UUID importId = UUID.randomUUID();
+        TaskImportStatus importStatus = new TaskImportStatus(importId, TaskImportState.RUNNING, 120, 100, 1,
+                List.of(new TaskImportError(7, "Title is required")), null, LocalDateTime.now(), null);
+        when(taskImportService.getImportStatus(importId)).thenReturn(importStatus);
+
+        mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/import/" + importId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(120))
+                .andExpect(jsonPath("$.errors[0].row").value(7))
+                .andExpect(jsonPath("$.errors[0].message").value("Title is required"));
+    }
+
     @Test
     void deleteTask_Success() throws Exception {
         doNothing().when(taskService).deleteTask(1L);
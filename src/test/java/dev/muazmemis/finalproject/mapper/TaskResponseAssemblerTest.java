@@ -0,0 +1,145 @@
+package dev.muazmemis.finalproject.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import dev.muazmemis.finalproject.dto.task.TaskResponse;
+import dev.muazmemis.finalproject.model.entity.Attachment;
+import dev.muazmemis.finalproject.model.entity.Comment;
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TaskResponseAssembler.class, TaskMapperImpl.class})
+class TaskResponseAssemblerTest {
+
+    private static final int TASK_COUNT = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private TaskResponseAssembler taskResponseAssembler;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Department department = entityManager.persist(Department.builder()
+                .name("IT")
+                .active(true)
+                .build());
+
+        Project project = entityManager.persist(Project.builder()
+                .title("Project 1")
+                .description("Description")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .active(true)
+                .build());
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = entityManager.persist(Task.builder()
+                    .title("Task " + i)
+                    .userStory("User Story")
+                    .acceptanceCriteria("Acceptance Criteria")
+                    .state(TaskState.BACKLOG)
+                    .priority(TaskPriority.HIGH)
+                    .project(project)
+                    .active(true)
+                    .build());
+
+            entityManager.persist(comment(task, true));
+            entityManager.persist(comment(task, false));
+            entityManager.persist(Attachment.builder()
+                    .fileName("file.txt")
+                    .filePath("/tmp/file.txt")
+                    .fileType("text/plain")
+                    .fileSize(1L)
+                    .task(task)
+                    .active(true)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void toResponseList_LoadsChildIdsWithConstantQueryCount() {
+        List<Task> tasks = loadTasks();
+        List<TaskResponse> responses = taskResponseAssembler.toResponseList(tasks);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(responses).hasSize(TASK_COUNT);
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.commentIds()).hasSize(1);
+            assertThat(response.attachmentIds()).hasSize(1);
+            assertThat(response.projectId()).isNotNull();
+        });
+    }
+
+    @Test
+    void toResponseList_MatchesPerEntityMapping() {
+        List<TaskResponse> expected = new ArrayList<>();
+        for (Task task : loadTasks())
+            expected.add(taskMapper.toResponse(task));
+        long lazyLoadingStatements = statistics.getPrepareStatementCount();
+
+        entityManager.clear();
+        statistics.clear();
+
+        List<TaskResponse> responses = taskResponseAssembler.toResponseList(loadTasks());
+
+        assertThat(responses).isEqualTo(expected);
+        assertThat(lazyLoadingStatements).isEqualTo(1 + 2L * TASK_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void toResponseList_EmptyList_RunsNoQueries() {
+        assertThat(taskResponseAssembler.toResponseList(List.of())).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private List<Task> loadTasks() {
+        return taskRepository.findActiveTasksAfter(null, null, null, null, null, TASK_COUNT);
+    }
+
+    private Comment comment(Task task, boolean active) {
+        return Comment.builder()
+                .content("Comment")
+                .task(task)
+                .active(active)
+                .build();
+    }
+}
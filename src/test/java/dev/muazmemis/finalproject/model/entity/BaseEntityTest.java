@@ -0,0 +1,58 @@
+package dev.muazmemis.finalproject.model.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import dev.muazmemis.finalproject.repository.CommentRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BaseEntityTest {
+
+    private static final int COMMENT_COUNT = 120;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAll_BatchesInsertsWithPooledIds() {
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++)
+            comments.add(Comment.builder()
+                    .content("Comment " + i)
+                    .active(true)
+                    .build());
+
+        commentRepository.saveAll(comments);
+        entityManager.flush();
+
+        assertThat(comments).extracting(Comment::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(COMMENT_COUNT);
+        // a few sequence calls for the id blocks plus the insert batches, not one statement per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.muazmemis.finalproject.model.enums;
+
+import static dev.muazmemis.finalproject.model.enums.TaskState.BACKLOG;
+import static dev.muazmemis.finalproject.model.enums.TaskState.BLOCKED;
+import static dev.muazmemis.finalproject.model.enums.TaskState.CANCELLED;
+import static dev.muazmemis.finalproject.model.enums.TaskState.COMPLETED;
+import static dev.muazmemis.finalproject.model.enums.TaskState.IN_ANALYSIS;
+import static dev.muazmemis.finalproject.model.enums.TaskState.IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class TaskStateTest {
+
+    private static final Map<TaskState, Set<TaskState>> EXPECTED = Map.of(
+            BACKLOG, EnumSet.of(IN_ANALYSIS, CANCELLED),
+            IN_ANALYSIS, EnumSet.of(BACKLOG, IN_PROGRESS, BLOCKED, CANCELLED),
+            IN_PROGRESS, EnumSet.of(IN_ANALYSIS, COMPLETED, BLOCKED, CANCELLED),
+            BLOCKED, EnumSet.of(BACKLOG, IN_ANALYSIS, IN_PROGRESS, CANCELLED, COMPLETED),
+            CANCELLED, EnumSet.of(BACKLOG, IN_ANALYSIS, IN_PROGRESS, CANCELLED, COMPLETED),
+            COMPLETED, EnumSet.noneOf(TaskState.class));
+
+    static Stream<Arguments> allTransitions() {
+        return Arrays.stream(TaskState.values())
+                .flatMap(from -> Arrays.stream(TaskState.values()).map(to -> Arguments.of(from, to)));
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @MethodSource("allTransitions")
+    void canTransitionTo_MatchesTransitionTable(TaskState from, TaskState to) {
+        assertEquals(EXPECTED.get(from).contains(to), from.canTransitionTo(to));
+    }
+
+    @Test
+    void allowedTransitions_CoversEveryState() {
+        for (TaskState state : TaskState.values())
+            assertEquals(EXPECTED.get(state), state.allowedTransitions());
+    }
+
+    @Test
+    void allowedTransitions_IsUnmodifiable() {
+        assertThatThrownBy(() -> BACKLOG.allowedTransitions().add(COMPLETED))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void requiresReason_OnlyForBlockedAndCancelled() {
+        assertThat(Arrays.stream(TaskState.values()).filter(TaskState::requiresReason))
+                .containsExactly(BLOCKED, CANCELLED);
+    }
+}
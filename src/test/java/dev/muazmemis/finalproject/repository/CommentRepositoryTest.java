@@ -0,0 +1,149 @@
+package dev.muazmemis.finalproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import dev.muazmemis.finalproject.dto.comment.CommentResponse;
+import dev.muazmemis.finalproject.model.entity.Comment;
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.Role;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Task task;
+    private List<Comment> thread;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Department department = entityManager.persist(Department.builder()
+                .name("IT")
+                .active(true)
+                .build());
+        Project project = entityManager.persist(Project.builder()
+                .title("Project 1")
+                .description("Description")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .active(true)
+                .build());
+        User author = entityManager.persist(User.builder()
+                .username("author")
+                .password("password")
+                .firstName("First")
+                .lastName("Last")
+                .role(Role.TEAM_MEMBER)
+                .active(true)
+                .build());
+        task = entityManager.persist(task(project));
+        Task otherTask = entityManager.persist(task(project));
+
+        thread = List.of(
+                entityManager.persist(comment(task, author, "First", true)),
+                entityManager.persist(comment(task, author, "Second", true)),
+                entityManager.persist(comment(task, author, "Third", true)),
+                entityManager.persist(comment(task, author, "Fourth", true)),
+                entityManager.persist(comment(task, author, "Fifth", true)));
+        Comment deleted = entityManager.persist(comment(task, author, "Deleted", false));
+        entityManager.persist(comment(otherTask, author, "Other task", true));
+        entityManager.flush();
+
+        // The middle three comments share a timestamp, so their order is decided by id alone.
+        setCreatedAt(thread.get(0), CREATED_AT.minusMinutes(1));
+        for (Comment comment : thread.subList(1, 4))
+            setCreatedAt(comment, CREATED_AT);
+        setCreatedAt(thread.get(4), CREATED_AT.plusMinutes(1));
+        setCreatedAt(deleted, CREATED_AT);
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findActiveByTaskIdAfter_PagesThroughThreadInCreationOrder() {
+        List<CommentResponse> first = commentRepository.findActiveByTaskId(task.getId(), PageRequest.ofSize(2));
+        CommentResponse last = first.get(1);
+        List<CommentResponse> second = findAfter(last.createdAt(), last.id());
+        last = second.get(1);
+        List<CommentResponse> third = findAfter(last.createdAt(), last.id());
+
+        assertThat(first).extracting(CommentResponse::content).containsExactly("First", "Second");
+        assertThat(second).extracting(CommentResponse::content).containsExactly("Third", "Fourth");
+        assertThat(third).extracting(CommentResponse::content).containsExactly("Fifth");
+    }
+
+    @Test
+    void findActiveByTaskId_ProjectsAuthorWithoutLazyLoading() {
+        List<CommentResponse> comments = commentRepository.findActiveByTaskId(task.getId(), PageRequest.ofSize(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(comments).allSatisfy(comment -> {
+            assertThat(comment.taskId()).isEqualTo(task.getId());
+            assertThat(comment.username()).isEqualTo("author");
+        });
+    }
+
+    private List<CommentResponse> findAfter(LocalDateTime afterCreatedAt, Long afterId) {
+        return commentRepository.findActiveByTaskIdAfter(task.getId(), afterCreatedAt, afterId, PageRequest.ofSize(2));
+    }
+
+    private void setCreatedAt(Comment comment, LocalDateTime createdAt) {
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE comments SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", comment.getId())
+                .executeUpdate();
+    }
+
+    private Task task(Project project) {
+        return Task.builder()
+                .title("Task")
+                .userStory("User Story")
+                .acceptanceCriteria("Acceptance Criteria")
+                .state(TaskState.BACKLOG)
+                .priority(TaskPriority.HIGH)
+                .project(project)
+                .active(true)
+                .build();
+    }
+
+    private Comment comment(Task commentTask, User author, String content, boolean active) {
+        return Comment.builder()
+                .content(content)
+                .task(commentTask)
+                .createdBy(author)
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package dev.muazmemis.finalproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import dev.muazmemis.finalproject.dto.task.TaskSearchQuery;
+import dev.muazmemis.finalproject.event.TasksChangedEvent;
+import dev.muazmemis.finalproject.model.entity.Comment;
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.projection.TaskSearchHit;
+
+@DataJpaTest(properties = "application.search.engine=in-memory")
+@Import(InMemoryTaskSearchRepository.class)
+class InMemoryTaskSearchRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private InMemoryTaskSearchRepository searchRepository;
+
+    private Department department;
+    private Project project;
+    private Task login;
+    private Task logout;
+    private Task report;
+
+    @BeforeEach
+    void setUp() {
+        department = entityManager.persist(Department.builder()
+                .name("IT")
+                .active(true)
+                .build());
+        project = entityManager.persist(project("Project 1"));
+        Project otherProject = entityManager.persist(project("Project 2"));
+
+        login = entityManager.persist(task(project, "Login page", "As a user I want to sign in", TaskState.BACKLOG));
+        logout = entityManager.persist(task(project, "Logout button", "As a user I want to leave the login session",
+                TaskState.IN_ANALYSIS));
+        report = entityManager.persist(task(otherProject, "Monthly report", "As a manager I want a summary",
+                TaskState.BACKLOG));
+        entityManager.persist(comment(report, "Blocked by the login rework", true));
+        entityManager.persist(comment(report, "Removed remark about invoices", false));
+        entityManager.flush();
+
+        searchRepository.rebuild();
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveDescriptionAndCommentMatches() {
+        List<TaskSearchHit> hits = searchRepository.search(query("Login"), 0, 10);
+
+        assertThat(hits).extracting(TaskSearchHit::taskId)
+                .containsExactly(login.getId(), logout.getId(), report.getId());
+        assertThat(hits.get(0).rank()).isGreaterThan(hits.get(1).rank());
+        assertThat(hits.get(1).rank()).isGreaterThan(hits.get(2).rank());
+    }
+
+    @Test
+    void search_RequiresEveryTerm() {
+        assertThat(searchRepository.search(query("user sign"), 0, 10))
+                .extracting(TaskSearchHit::taskId)
+                .containsExactly(login.getId());
+    }
+
+    @Test
+    void search_AppliesFiltersAndPaging() {
+        assertThat(searchRepository.search(new TaskSearchQuery("login", project.getId(), null), 0, 10))
+                .extracting(TaskSearchHit::taskId)
+                .containsExactly(login.getId(), logout.getId());
+        assertThat(searchRepository.search(new TaskSearchQuery("login", null, TaskState.IN_ANALYSIS), 0, 10))
+                .extracting(TaskSearchHit::taskId)
+                .containsExactly(logout.getId());
+        assertThat(searchRepository.search(query("login"), 1, 1))
+                .extracting(TaskSearchHit::taskId)
+                .containsExactly(logout.getId());
+    }
+
+    @Test
+    void search_IgnoresInactiveComments() {
+        assertThat(searchRepository.search(query("invoices"), 0, 10)).isEmpty();
+    }
+
+    @Test
+    void onTasksChanged_ReindexesChangedTasks() {
+        login.setTitle("Registration page");
+        report.setActive(false);
+        entityManager.flush();
+
+        searchRepository.onTasksChanged(new TasksChangedEvent(List.of(login.getId(), report.getId())));
+
+        assertThat(searchRepository.search(query("login"), 0, 10))
+                .extracting(TaskSearchHit::taskId)
+                .containsExactly(logout.getId());
+        assertThat(searchRepository.search(query("registration"), 0, 10))
+                .extracting(TaskSearchHit::taskId)
+                .containsExactly(login.getId());
+    }
+
+    private TaskSearchQuery query(String text) {
+        return new TaskSearchQuery(text, null, null);
+    }
+
+    private Project project(String title) {
+        return Project.builder()
+                .title(title)
+                .description("Description")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .active(true)
+                .build();
+    }
+
+    private Task task(Project taskProject, String title, String userStory, TaskState state) {
+        return Task.builder()
+                .title(title)
+                .userStory(userStory)
+                .acceptanceCriteria("Acceptance Criteria")
+                .state(state)
+                .priority(TaskPriority.HIGH)
+                .project(taskProject)
+                .active(true)
+                .build();
+    }
+
+    private Comment comment(Task task, String content, boolean active) {
+        return Comment.builder()
+                .content(content)
+                .task(task)
+                .active(active)
+                .build();
+    }
+}
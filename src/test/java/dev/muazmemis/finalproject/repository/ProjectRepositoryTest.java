@@ -0,0 +1,164 @@
+package dev.muazmemis.finalproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.Role;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
+
+@DataJpaTest
+class ProjectRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        Department department = entityManager.persist(Department.builder()
+                .name("IT")
+                .active(true)
+                .build());
+
+        project = entityManager.persist(Project.builder()
+                .title("Project 1")
+                .description("Description")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .active(true)
+                .build());
+
+        entityManager.persist(task(TaskState.IN_PROGRESS, true));
+        entityManager.persist(task(TaskState.BLOCKED, true));
+        entityManager.persist(task(TaskState.COMPLETED, true));
+        entityManager.persist(task(TaskState.BACKLOG, false));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void openTaskCount_NewProjectStartsAtZero() {
+        assertThat(openTaskCount()).isZero();
+    }
+
+    @Test
+    void adjustOpenTaskCount_AppliesDelta() {
+        assertThat(projectRepository.adjustOpenTaskCount(project.getId(), 2)).isEqualTo(1);
+        projectRepository.adjustOpenTaskCount(project.getId(), -1);
+
+        assertThat(openTaskCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void findTaskIds_ListsEveryTaskOfTheProjectInIdOrder() {
+        List<Long> ids = taskRepository.findAll().stream().map(Task::getId).sorted().toList();
+
+        assertThat(projectRepository.findTaskIds(project.getId())).containsExactlyElementsOf(ids).hasSize(4);
+    }
+
+    @Test
+    void addTeamMembers_InsertsOnlyNewMemberships() {
+        User first = entityManager.persist(user("first"));
+        User second = entityManager.persist(user("second"));
+        entityManager.flush();
+
+        assertThat(projectRepository.addTeamMembers(project.getId(), List.of(first.getId()))).isEqualTo(1);
+        assertThat(projectRepository.addTeamMembers(project.getId(), List.of(first.getId(), second.getId())))
+                .isEqualTo(1);
+
+        assertThat(projectRepository.findTeamMemberIds(project.getId()))
+                .containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void removeTeamMembers_DeletesOnlyRequestedMemberships() {
+        User first = entityManager.persist(user("first"));
+        User second = entityManager.persist(user("second"));
+        entityManager.flush();
+        projectRepository.addTeamMembers(project.getId(), List.of(first.getId(), second.getId()));
+
+        assertThat(projectRepository.removeTeamMembers(project.getId(), List.of(first.getId(), 999L))).isEqualTo(1);
+
+        assertThat(projectRepository.findTeamMemberIds(project.getId())).containsExactly(second.getId());
+    }
+
+    @Test
+    void findResourceVersion_FollowsDepartmentAndNewTasks() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+        setTimestamp("UPDATE projects SET updated_at = :at", updatedAt);
+        setTimestamp("UPDATE departments SET updated_at = :at", updatedAt.minusMinutes(1));
+        setTimestamp("UPDATE tasks SET created_at = :at, updated_at = :at", updatedAt.minusMinutes(2));
+
+        assertThat(projectRepository.findResourceVersion(project.getId()))
+                .contains(new ResourceVersion(0L, updatedAt));
+
+        setTimestamp("UPDATE tasks SET updated_at = :at", updatedAt.plusMinutes(1));
+        assertThat(projectRepository.findResourceVersion(project.getId()))
+                .contains(new ResourceVersion(0L, updatedAt));
+
+        setTimestamp("UPDATE departments SET updated_at = :at", updatedAt.plusMinutes(2));
+        assertThat(projectRepository.findResourceVersion(project.getId()))
+                .contains(new ResourceVersion(0L, updatedAt.plusMinutes(2)));
+
+        entityManager.persist(task(TaskState.BACKLOG, true));
+        entityManager.flush();
+        assertThat(projectRepository.findResourceVersion(project.getId()).orElseThrow().lastModified())
+                .isAfter(updatedAt.plusMinutes(2));
+    }
+
+    private void setTimestamp(String update, LocalDateTime at) {
+        entityManager.getEntityManager()
+                .createNativeQuery(update)
+                .setParameter("at", at)
+                .executeUpdate();
+    }
+
+    private User user(String username) {
+        return User.builder()
+                .username(username)
+                .password("password")
+                .firstName("First")
+                .lastName("Last")
+                .role(Role.TEAM_MEMBER)
+                .active(true)
+                .build();
+    }
+
+    private long openTaskCount() {
+        return projectRepository.findOpenTaskCount(project.getId());
+    }
+
+    private Task task(TaskState state, boolean active) {
+        return Task.builder()
+                .title("Task")
+                .userStory("User Story")
+                .acceptanceCriteria("Acceptance Criteria")
+                .state(state)
+                .priority(TaskPriority.HIGH)
+                .project(project)
+                .active(active)
+                .build();
+    }
+}
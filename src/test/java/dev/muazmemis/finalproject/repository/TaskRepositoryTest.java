@@ -0,0 +1,171 @@
+package dev.muazmemis.finalproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import dev.muazmemis.finalproject.model.entity.Attachment;
+import dev.muazmemis.finalproject.model.entity.Comment;
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.projection.ResourceVersion;
+
+@DataJpaTest
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Department department = entityManager.persist(Department.builder()
+                .name("IT")
+                .active(true)
+                .build());
+        Project project = entityManager.persist(Project.builder()
+                .title("Project 1")
+                .description("Description")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .active(true)
+                .build());
+        task = entityManager.persist(Task.builder()
+                .title("Task")
+                .userStory("User Story")
+                .acceptanceCriteria("Acceptance Criteria")
+                .state(TaskState.BACKLOG)
+                .priority(TaskPriority.HIGH)
+                .project(project)
+                .active(true)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findActiveTasksAfter_AppliesOnlyGivenFiltersAndCursor() {
+        Task existing = entityManager.find(Task.class, task.getId());
+        Task second = entityManager.persist(copy(existing, TaskState.BACKLOG, true));
+        Task third = entityManager.persist(copy(existing, TaskState.IN_PROGRESS, true));
+        entityManager.persist(copy(existing, TaskState.BACKLOG, false));
+        entityManager.flush();
+        Long projectId = existing.getProject().getId();
+
+        assertThat(taskRepository.findActiveTasksAfter(null, null, null, null, null, 10))
+                .extracting(Task::getId).containsExactly(task.getId(), second.getId(), third.getId());
+        assertThat(taskRepository.findActiveTasksAfter(task.getId(), projectId, null, TaskState.BACKLOG,
+                TaskPriority.HIGH, 10))
+                .extracting(Task::getId).containsExactly(second.getId());
+        assertThat(taskRepository.findActiveTasksAfter(null, projectId, null, null, null, 2))
+                .extracting(Task::getId).containsExactly(task.getId(), second.getId());
+        assertThat(taskRepository.findActiveTasksAfter(null, projectId + 1, null, null, null, 10))
+                .isEmpty();
+    }
+
+    @Test
+    void updateStateIfUnchanged_MatchingStateAndVersion_AppliesAndIncrementsVersion() {
+        assertThat(updateState(TaskState.BACKLOG, 0L)).isEqualTo(1);
+
+        Task updated = entityManager.find(Task.class, task.getId());
+        assertThat(updated.getState()).isEqualTo(TaskState.IN_ANALYSIS);
+        assertThat(updated.getStateChangeReason()).isEqualTo("Ready");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void updateStateIfUnchanged_StaleVersion_UpdatesNothing() {
+        assertThat(updateState(TaskState.BACKLOG, 0L)).isEqualTo(1);
+
+        assertThat(updateState(TaskState.BACKLOG, 0L)).isZero();
+        assertThat(entityManager.find(Task.class, task.getId()).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void updateStateIfUnchanged_StaleState_UpdatesNothing() {
+        assertThat(updateState(TaskState.IN_PROGRESS, 0L)).isZero();
+
+        Task unchanged = entityManager.find(Task.class, task.getId());
+        assertThat(unchanged.getState()).isEqualTo(TaskState.BACKLOG);
+        assertThat(unchanged.getVersion()).isZero();
+    }
+
+    @Test
+    void findResourceVersion_FollowsCommentsAndAttachments() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+        setTimestamp("UPDATE tasks SET updated_at = :at", updatedAt);
+        assertThat(taskRepository.findResourceVersion(task.getId())).contains(new ResourceVersion(0L, updatedAt));
+
+        entityManager.persist(Comment.builder()
+                .content("Comment")
+                .task(entityManager.find(Task.class, task.getId()))
+                .active(true)
+                .build());
+        entityManager.flush();
+        setTimestamp("UPDATE comments SET updated_at = :at", updatedAt.plusMinutes(1));
+        assertThat(taskRepository.findResourceVersion(task.getId()))
+                .contains(new ResourceVersion(0L, updatedAt.plusMinutes(1)));
+
+        entityManager.persist(Attachment.builder()
+                .fileName("spec.pdf")
+                .filePath("/tmp/spec.pdf")
+                .fileType("application/pdf")
+                .fileSize(1L)
+                .task(entityManager.find(Task.class, task.getId()))
+                .active(true)
+                .build());
+        entityManager.flush();
+        setTimestamp("UPDATE attachments SET updated_at = :at", updatedAt.plusMinutes(2));
+        assertThat(taskRepository.findResourceVersion(task.getId()))
+                .contains(new ResourceVersion(0L, updatedAt.plusMinutes(2)));
+    }
+
+    @Test
+    void findResourceVersion_DeletedTask_IsEmpty() {
+        entityManager.find(Task.class, task.getId()).setActive(false);
+        entityManager.flush();
+
+        assertThat(taskRepository.findResourceVersion(task.getId())).isEmpty();
+    }
+
+    private void setTimestamp(String update, LocalDateTime at) {
+        entityManager.getEntityManager()
+                .createNativeQuery(update)
+                .setParameter("at", at)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    private int updateState(TaskState expectedState, long expectedVersion) {
+        int updated = taskRepository.updateStateIfUnchanged(task.getId(), expectedState, expectedVersion,
+                TaskState.IN_ANALYSIS, "Ready", LocalDateTime.now(), null);
+        entityManager.clear();
+        return updated;
+    }
+
+    private Task copy(Task source, TaskState state, boolean active) {
+        return Task.builder()
+                .title(source.getTitle())
+                .userStory(source.getUserStory())
+                .acceptanceCriteria(source.getAcceptanceCriteria())
+                .state(state)
+                .priority(source.getPriority())
+                .project(source.getProject())
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package dev.muazmemis.finalproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void encode_HashesOnPoolAndRecordsLatency() {
+        encoder = encoder(1, 1, Duration.ofSeconds(10));
+
+        String hash = encoder.encode("secret");
+
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("other", hash)).isFalse();
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.HASH_METRIC).tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(BoundedPasswordEncoder.HASH_METRIC).tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void encode_PoolAndQueueFull_ThrowsTooManyRequests() throws InterruptedException {
+        encoder = encoder(1, 0, Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(encoder, "delegate", blockingEncoder());
+        Thread.ofVirtual().start(() -> encoder.encode("first"));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> encoder.encode("second"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage(ErrorMessages.PASSWORD_HASHING_BUSY);
+        assertThat(meterRegistry.counter(BoundedPasswordEncoder.REJECTED_METRIC).count()).isEqualTo(1);
+    }
+
+    @Test
+    void matches_HashTooSlow_ThrowsTooManyRequests() {
+        encoder = encoder(1, 1, Duration.ofMillis(50));
+        ReflectionTestUtils.setField(encoder, "delegate", blockingEncoder());
+
+        assertThatThrownBy(() -> encoder.matches("secret", "hash"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void encode_CallerGaveUpWhileQueued_SkipsHash() throws InterruptedException {
+        encoder = encoder(1, 1, Duration.ofMillis(50));
+        AtomicInteger hashed = new AtomicInteger();
+        ReflectionTestUtils.setField(encoder, "delegate", uninterruptibleEncoder(hashed));
+        Thread.ofVirtual().start(() -> encoder.encode("first"));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> encoder.encode("second")).isInstanceOf(TooManyRequestsException.class);
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) ReflectionTestUtils.getField(encoder, "executor");
+        assertThat(executor.getQueueSize()).isZero();
+
+        release.countDown();
+        ReflectionTestUtils.setField(encoder, "timeout", Duration.ofSeconds(10));
+
+        assertThat(encoder.encode("third")).isEqualTo("hash");
+        assertThat(hashed).hasValue(2);
+    }
+
+    private BoundedPasswordEncoder encoder(int threads, int queueCapacity, Duration timeout) {
+        BoundedPasswordEncoder boundedEncoder = new BoundedPasswordEncoder(meterRegistry);
+        ReflectionTestUtils.setField(boundedEncoder, "threads", threads);
+        ReflectionTestUtils.setField(boundedEncoder, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(boundedEncoder, "timeout", timeout);
+        ReflectionTestUtils.setField(boundedEncoder, "retryAfter", Duration.ofSeconds(1));
+        boundedEncoder.init();
+        return boundedEncoder;
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                block();
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                block();
+                return true;
+            }
+
+            private void block() {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private PasswordEncoder uninterruptibleEncoder(AtomicInteger hashed) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashed.incrementAndGet();
+                started.countDown();
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // BCrypt does not stop when interrupted either.
+                    }
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+    }
+}
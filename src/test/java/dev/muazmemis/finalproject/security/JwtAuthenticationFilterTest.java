@@ -0,0 +1,127 @@
+package dev.muazmemis.finalproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private PrincipalCache principalCache;
+    private JwtAuthenticationFilter filter;
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", Duration.ofHours(1).toMillis());
+        jwtService.init();
+
+        principalCache = new PrincipalCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, principalCache);
+
+        user = User.builder()
+                .id(1L)
+                .username("testuser")
+                .password("password")
+                .firstName("Test")
+                .lastName("User")
+                .role(Role.TEAM_MEMBER)
+                .active(true)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_CachedPrincipal_AuthenticatesWithoutLoadingAgain() throws Exception {
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(user);
+
+        assertThat(authenticate(token)).isNotNull();
+        Authentication authentication = authenticate(token);
+
+        assertThat(authentication.getPrincipal()).isSameAs(user);
+        verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void doFilter_DisabledUserAfterEviction_IsNotAuthenticated() throws Exception {
+        User disabled = User.builder().id(1L).username("testuser").password("password").role(Role.TEAM_MEMBER)
+                .active(false).build();
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(user, disabled);
+        assertThat(authenticate(token)).isNotNull();
+
+        principalCache.evict("testuser");
+
+        assertThat(authenticate(token)).isNull();
+        verify(userDetailsService, times(2)).loadUserByUsername("testuser");
+    }
+
+    @Test
+    void doFilter_DeletedUserAfterEviction_IsNotAuthenticated() throws Exception {
+        when(userDetailsService.loadUserByUsername("testuser"))
+                .thenReturn(user)
+                .thenThrow(new UsernameNotFoundException("Username not found"));
+        assertThat(authenticate(token)).isNotNull();
+
+        principalCache.evict("testuser");
+        SecurityContextHolder.clearContext();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void doFilter_InvalidToken_IsNotAuthenticated() throws Exception {
+        assertThat(authenticate(token + "x")).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private Authentication authenticate(String bearer) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request(bearer), new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private MockHttpServletRequest request(String bearer) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + bearer);
+        return request;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.muazmemis.finalproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PrincipalCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, UserDetails> loader = username -> {
+        loads.incrementAndGet();
+        return User.builder().username(username).password("password").role(Role.TEAM_MEMBER).active(true).build();
+    };
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void get_CachedPrincipal_DoesNotLoadAgain() {
+        UserDetails first = principalCache.get("testuser", loader);
+        UserDetails second = principalCache.get("testuser", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evict_LoadsPrincipalAgain() {
+        principalCache.get("testuser", loader);
+
+        principalCache.evict("testuser");
+        principalCache.get("testuser", loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evict_InTransaction_EvictsAgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        principalCache.get("testuser", loader);
+
+        principalCache.evict("testuser");
+        principalCache.get("testuser", loader);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        principalCache.get("testuser", loader);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void evict_NullUsername_DoesNothing() {
+        principalCache.get("testuser", loader);
+
+        principalCache.evict(null);
+        principalCache.get("testuser", loader);
+
+        assertThat(loads).hasValue(1);
+    }
+}
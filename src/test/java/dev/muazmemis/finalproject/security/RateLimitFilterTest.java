@@ -0,0 +1,112 @@
+package dev.muazmemis.finalproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(true, 1_000, Duration.ofMinutes(10), List.of(
+                new RateLimitProperties.Rule("login", "/api/v1/auth/**", HttpMethod.POST, 2, Duration.ofMinutes(1)),
+                new RateLimitProperties.Rule("api", "/api/**", null, 3, Duration.ofMinutes(1))));
+        filter = new RateLimitFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+        ReflectionTestUtils.setField(filter, "clock", (LongSupplier) now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_OverCapacity_RejectsWithRetryAfter() throws Exception {
+        assertThat(send("POST", "/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(send("POST", "/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        MockHttpServletResponse response = send("POST", "/api/v1/auth/login", "10.0.0.1");
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        assertThat(response.getContentAsString()).contains(ErrorMessages.RATE_LIMITED);
+        assertThat(meterRegistry.get(RateLimitFilter.REJECTED_METRIC).tag("rule", "login").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_AfterRefill_AllowsAgain() throws Exception {
+        send("POST", "/api/v1/auth/login", "10.0.0.1");
+        send("POST", "/api/v1/auth/login", "10.0.0.1");
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(send("POST", "/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void doFilter_SeparateAddresses_UseSeparateBuckets() throws Exception {
+        send("POST", "/api/v1/auth/login", "10.0.0.1");
+        send("POST", "/api/v1/auth/login", "10.0.0.1");
+
+        assertThat(send("POST", "/api/v1/auth/login", "10.0.0.2").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void doFilter_AuthenticatedUsers_AreLimitedByUserNotAddress() throws Exception {
+        authenticate("alice");
+        for (int i = 0; i < 3; i++)
+            assertThat(send("GET", "/api/v1/tasks/1", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(send("GET", "/api/v1/tasks/1", "10.0.0.2").getStatus())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        authenticate("bob");
+        assertThat(send("GET", "/api/v1/tasks/1", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void doFilter_UnmatchedRequests_AreNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++)
+            assertThat(send("GET", "/swagger-ui/index.html", "10.0.0.1").getStatus())
+                    .isEqualTo(HttpStatus.OK.value());
+
+        assertThat(meterRegistry.get(RateLimitFilter.BUCKETS_METRIC).gauge().value()).isZero();
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
@@ -0,0 +1,43 @@
+package dev.muazmemis.finalproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long REFILL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void tryConsume_AllowsBurstUpToCapacityThenReportsWait() {
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), 0);
+
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isEqualTo(REFILL_NANOS);
+        assertThat(bucket.tryConsume(REFILL_NANOS / 2)).isEqualTo(REFILL_NANOS / 2);
+    }
+
+    @Test
+    void tryConsume_RefillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), 0);
+        for (int i = 0; i < 3; i++)
+            bucket.tryConsume(0);
+
+        assertThat(bucket.tryConsume(REFILL_NANOS)).isZero();
+        assertThat(bucket.tryConsume(REFILL_NANOS)).isPositive();
+    }
+
+    @Test
+    void tryConsume_IdleBucketRefillsOnlyToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        long later = Duration.ofHours(1).toNanos();
+
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+}
@@ -11,10 +11,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,7 +28,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
+import dev.muazmemis.finalproject.dto.attachment.AttachmentDownload;
 import dev.muazmemis.finalproject.dto.attachment.AttachmentRequest;
 import dev.muazmemis.finalproject.dto.attachment.AttachmentResponse;
 import dev.muazmemis.finalproject.mapper.AttachmentMapper;
@@ -53,6 +60,12 @@ class AttachmentServiceTest {
         @Mock
         private SecurityUtils securityUtils;
 
+        @Mock
+        private TransactionTemplate transactionTemplate;
+
+        @Mock
+        private OutboxService outboxService;
+
         @InjectMocks
         private AttachmentService attachmentService;
 
@@ -116,6 +129,10 @@ class AttachmentServiceTest {
                                 true);
 
                 ReflectionTestUtils.setField(attachmentService, "uploadDir", tempDir.toString());
+                ReflectionTestUtils.setField(attachmentService, "uploadBufferSize", 4);
+
+                lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
                 lenient().when(securityUtils.getCurrentUser()).thenReturn(user);
         }
@@ -133,6 +150,88 @@ class AttachmentServiceTest {
                 assertEquals("test.txt", result.getFirst().fileName());
         }
 
+        @Test
+        void uploadAttachment_PersistFails_DeletesWrittenFiles() {
+                when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+                when(attachmentRepository.saveAll(any())).thenThrow(new IllegalStateException("Database down"));
+
+                assertThatThrownBy(() -> attachmentService.uploadAttachment(request))
+                                .isInstanceOf(IllegalStateException.class);
+                assertThat(tempDir).isEmptyDirectory();
+        }
+
+        @Test
+        void saveAttachmentFiles_WritesAllFilesInParallel() throws IOException {
+                List<MultipartFile> files = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                        files.add(new MockMultipartFile("files", "file" + i + ".txt", "text/plain",
+                                        ("content of file " + i).getBytes()));
+                }
+                files.add(new MockMultipartFile("files", "empty.txt", "text/plain", new byte[0]));
+
+                List<Attachment> attachments = attachmentService.saveAttachmentFiles(files);
+
+                assertThat(attachments).hasSize(8);
+                for (int i = 0; i < attachments.size(); i++) {
+                        Attachment saved = attachments.get(i);
+                        assertEquals("file" + i + ".txt", saved.getFileName());
+                        assertEquals("content of file " + i, Files.readString(Path.of(saved.getFilePath())));
+                }
+        }
+
+        @Test
+        void saveAttachmentFiles_ContentAddressed_StoresDuplicateContentOnce() throws IOException {
+                ReflectionTestUtils.setField(attachmentService, "contentAddressed", true);
+                List<MultipartFile> files = List.of(
+                                new MockMultipartFile("files", "spec.pdf", "application/pdf", "same spec".getBytes()),
+                                new MockMultipartFile("files", "spec-copy.pdf", "application/pdf", "same spec".getBytes()));
+
+                List<Attachment> attachments = attachmentService.saveAttachmentFiles(files);
+
+                assertThat(attachments).hasSize(2);
+                assertEquals(attachments.get(0).getContentHash(), attachments.get(1).getContentHash());
+                assertEquals(attachments.get(0).getFilePath(), attachments.get(1).getFilePath());
+                assertEquals("same spec", Files.readString(Path.of(attachments.get(0).getFilePath())));
+                try (Stream<Path> stored = Files.walk(tempDir)) {
+                        assertThat(stored.filter(Files::isRegularFile)).hasSize(1);
+                }
+        }
+
+        @Test
+        void uploadAttachment_ContentAddressed_PersistFails_RemovesUnreferencedBlob() throws IOException {
+                ReflectionTestUtils.setField(attachmentService, "contentAddressed", true);
+                when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+                when(attachmentRepository.saveAll(any())).thenThrow(new IllegalStateException("Database down"));
+
+                assertThatThrownBy(() -> attachmentService.uploadAttachment(request))
+                                .isInstanceOf(IllegalStateException.class);
+                verify(attachmentRepository).countByContentHashAndActiveTrue(any());
+                assertThat(storedFiles()).isEmpty();
+        }
+
+        @Test
+        void deleteAttachment_ContentAddressed_KeepsBlobWhileReferenced() throws IOException {
+                Attachment stored = storeBlob();
+                when(attachmentRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(stored));
+                when(attachmentRepository.countByContentHashAndActiveTrue(stored.getContentHash())).thenReturn(1L);
+
+                attachmentService.deleteAttachment(1L);
+
+                assertFalse(stored.isActive());
+                assertThat(Path.of(stored.getFilePath())).exists();
+        }
+
+        @Test
+        void deleteAttachment_ContentAddressed_RemovesBlobWithLastReference() throws IOException {
+                Attachment stored = storeBlob();
+                when(attachmentRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(stored));
+                when(attachmentRepository.countByContentHashAndActiveTrue(stored.getContentHash())).thenReturn(0L);
+
+                attachmentService.deleteAttachment(1L);
+
+                assertThat(Path.of(stored.getFilePath())).doesNotExist();
+        }
+
         @Test
         void uploadAttachment_TaskNotFound_ThrowsException() {
                 when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.empty());
@@ -176,6 +275,27 @@ class AttachmentServiceTest {
                                 .hasMessageContaining("not found");
         }
 
+        @Test
+        void getAttachmentDownload_Success() throws IOException {
+                Files.writeString(tempDir.resolve("test.txt"), "test content");
+                when(attachmentRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(attachment));
+
+                AttachmentDownload result = attachmentService.getAttachmentDownload(1L);
+
+                assertEquals("test.txt", result.fileName());
+                assertEquals(12L, result.resource().contentLength());
+                assertThat(result.eTag()).startsWith("\"1-12-");
+        }
+
+        @Test
+        void getAttachmentDownload_FileMissing_ThrowsException() {
+                when(attachmentRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(attachment));
+
+                assertThatThrownBy(() -> attachmentService.getAttachmentDownload(1L))
+                                .isInstanceOf(EntityNotFoundException.class)
+                                .hasMessageContaining("Attachment file not found");
+        }
+
         @Test
         void deleteAttachment_Success() throws IOException {
                 when(attachmentRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(attachment));
@@ -222,4 +342,21 @@ class AttachmentServiceTest {
                                 .isInstanceOf(EntityNotFoundException.class)
                                 .hasMessageContaining("not found");
         }
+
+        private Attachment storeBlob() throws IOException {
+                ReflectionTestUtils.setField(attachmentService, "contentAddressed", true);
+                List<Attachment> stored = attachmentService.saveAttachmentFiles(request.files());
+                attachmentService.releaseAttachmentFiles(stored);
+
+                Attachment blob = stored.getFirst();
+                blob.setId(1L);
+                blob.setCreatedBy(user);
+                return blob;
+        }
+
+        private List<Path> storedFiles() throws IOException {
+                try (Stream<Path> stored = Files.walk(tempDir)) {
+                        return stored.filter(Files::isRegularFile).toList();
+                }
+        }
 }
@@ -17,14 +17,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import dev.muazmemis.finalproject.constant.ErrorMessages;
 import dev.muazmemis.finalproject.dto.comment.CommentRequest;
 import dev.muazmemis.finalproject.dto.comment.CommentResponse;
+import dev.muazmemis.finalproject.dto.common.CursorPageResponse;
 import dev.muazmemis.finalproject.mapper.CommentMapper;
 import dev.muazmemis.finalproject.model.entity.Comment;
 import dev.muazmemis.finalproject.model.entity.Task;
 import dev.muazmemis.finalproject.repository.CommentRepository;
 import dev.muazmemis.finalproject.repository.TaskRepository;
+import dev.muazmemis.finalproject.util.CursorUtils;
 import jakarta.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +44,12 @@ class CommentServiceTest {
     @Mock
     private CommentMapper commentMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -134,6 +145,48 @@ class CommentServiceTest {
         assertThat(result).hasSize(1);
     }
 
+    @Test
+    void getTaskComments_ReturnsCursorForNextPage() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+        List<CommentResponse> comments = List.of(
+                new CommentResponse(3L, "First", 1L, 7L, "author", createdAt),
+                new CommentResponse(5L, "Second", 1L, 7L, "author", createdAt),
+                new CommentResponse(4L, "Third", 1L, 7L, "author", createdAt.plusMinutes(1)));
+        when(taskRepository.existsByIdAndActiveTrue(1L)).thenReturn(true);
+        when(commentRepository.findActiveByTaskId(1L, PageRequest.ofSize(3))).thenReturn(comments);
+
+        CursorPageResponse<CommentResponse> page = commentService.getTaskComments(1L, null, 2);
+
+        assertThat(page.items()).extracting(CommentResponse::id).containsExactly(3L, 5L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CursorUtils.decodeCreatedAt(page.nextCursor()))
+                .isEqualTo(new CursorUtils.CreatedAtKey(createdAt, 5L));
+    }
+
+    @Test
+    void getTaskComments_ContinuesAfterCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+        when(taskRepository.existsByIdAndActiveTrue(1L)).thenReturn(true);
+        when(commentRepository.findActiveByTaskIdAfter(1L, createdAt, 5L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(new CommentResponse(4L, "Third", 1L, 7L, "author", createdAt)));
+
+        CursorPageResponse<CommentResponse> page = commentService.getTaskComments(1L,
+                CursorUtils.encodeCreatedAt(createdAt, 5L), 2);
+
+        assertThat(page.items()).extracting(CommentResponse::id).containsExactly(4L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getTaskComments_TaskNotFound_ThrowsException() {
+        when(taskRepository.existsByIdAndActiveTrue(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> commentService.getTaskComments(1L, null, null))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(String.format(ErrorMessages.TASK_NOT_FOUND, 1L));
+    }
+
     @Test
     void deleteComment_Success() {
         when(commentRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(comment));
@@ -0,0 +1,204 @@
+package dev.muazmemis.finalproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.muazmemis.finalproject.event.OutboxMessage;
+import dev.muazmemis.finalproject.event.OutboxSink;
+import dev.muazmemis.finalproject.model.entity.OutboxEvent;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+import dev.muazmemis.finalproject.repository.OutboxEventRepository;
+
+@DataJpaTest
+class OutboxRelayTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final RecordingSink sink = new RecordingSink();
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, List.of(sink), new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxRelay, "retryBackoff", Duration.ZERO);
+        ReflectionTestUtils.setField(outboxRelay, "maxRetryBackoff", Duration.ZERO);
+        ReflectionTestUtils.setField(outboxRelay, "retention", Duration.ofDays(1));
+    }
+
+    @Test
+    void relay_DeliversPendingEventsInOrderAndMarksThemPublished() {
+        OutboxEvent created = persist(AggregateType.TASK, 1L, 1, ChangeType.CREATED);
+        OutboxEvent project = persist(AggregateType.PROJECT, 1L, 1, ChangeType.UPDATED);
+        OutboxEvent updated = persist(AggregateType.TASK, 1L, 2, ChangeType.UPDATED);
+
+        outboxRelay.relay();
+
+        assertThat(outboxRelay.drain()).isZero();
+        assertThat(sink.delivered).extracting(OutboxMessage::id)
+                .containsExactly(created.getId(), project.getId(), updated.getId());
+        assertThat(sink.delivered.get(0).payload()).isEqualTo("{\"id\":1}");
+        assertThat(outboxEventRepository.findAll()).allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+    }
+
+    @Test
+    void drain_DeliversEachAggregateInSequenceRatherThanIdOrder() {
+        OutboxEvent second = persist(AggregateType.TASK, 1L, 2, ChangeType.UPDATED);
+        OutboxEvent first = persist(AggregateType.TASK, 1L, 1, ChangeType.CREATED);
+
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+
+        assertThat(sink.delivered).extracting(OutboxMessage::id).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    void drain_FailedEvent_HoldsBackLaterEventsOfSameAggregateOnly() {
+        OutboxEvent failing = persist(AggregateType.TASK, 1L, 1, ChangeType.CREATED);
+        OutboxEvent other = persist(AggregateType.TASK, 2L, 1, ChangeType.CREATED);
+        OutboxEvent heldBack = persist(AggregateType.TASK, 1L, 2, ChangeType.UPDATED);
+        sink.failing.add(failing.getId());
+
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+
+        assertThat(sink.delivered).extracting(OutboxMessage::id).containsExactly(other.getId());
+        OutboxEvent failed = outboxEventRepository.findById(failing.getId()).orElseThrow();
+        assertThat(failed.getPublishedAt()).isNull();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("Sink unavailable");
+
+        sink.failing.clear();
+        outboxRelay.relay();
+
+        assertThat(sink.delivered).extracting(OutboxMessage::id)
+                .containsExactly(other.getId(), failing.getId(), heldBack.getId());
+    }
+
+    @Test
+    void drain_EventsWaitingForRetry_DoNotFillTheBatch() {
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+        ReflectionTestUtils.setField(outboxRelay, "retryBackoff", Duration.ofHours(1));
+        ReflectionTestUtils.setField(outboxRelay, "maxRetryBackoff", Duration.ofHours(1));
+        OutboxEvent first = persist(AggregateType.TASK, 1L, 1, ChangeType.CREATED);
+        OutboxEvent second = persist(AggregateType.TASK, 2L, 1, ChangeType.CREATED);
+        OutboxEvent healthy = persist(AggregateType.TASK, 3L, 1, ChangeType.CREATED);
+        sink.failing.addAll(List.of(first.getId(), second.getId()));
+
+        assertThat(outboxRelay.drain()).isZero();
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+
+        assertThat(sink.delivered).extracting(OutboxMessage::id).containsExactly(healthy.getId());
+        assertThat(outboxEventRepository.findById(first.getId()).orElseThrow().getNextAttemptAt())
+                .isAfter(LocalDateTime.now().plusMinutes(59));
+    }
+
+    @Test
+    void relay_EventFailingMaxAttempts_IsParkedAndKeepsItsAggregateHeld() {
+        OutboxEvent failing = persist(AggregateType.TASK, 1L, 1, ChangeType.CREATED);
+        OutboxEvent heldBack = persist(AggregateType.TASK, 1L, 2, ChangeType.UPDATED);
+        OutboxEvent other = persist(AggregateType.TASK, 2L, 1, ChangeType.CREATED);
+        sink.failing.add(failing.getId());
+
+        for (int pass = 0; pass < 5; pass++)
+            outboxRelay.relay();
+
+        OutboxEvent parked = outboxEventRepository.findById(failing.getId()).orElseThrow();
+        assertThat(parked.getAttempts()).isEqualTo(3);
+        assertThat(parked.getParkedAt()).isNotNull();
+        assertThat(sink.delivered).extracting(OutboxMessage::id).containsExactly(other.getId());
+        assertThat(outboxEventRepository.findById(heldBack.getId()).orElseThrow().getPublishedAt()).isNull();
+
+        sink.failing.clear();
+        outboxRelay.relay();
+        outboxRelay.purge();
+        assertThat(sink.delivered).extracting(OutboxMessage::id).containsExactly(other.getId());
+        assertThat(outboxEventRepository.findById(failing.getId())).isPresent();
+    }
+
+    @Test
+    void drain_DeliversPayloadLargerThanAVarcharColumn() {
+        String payload = "{\"taskIds\":[" + "1,".repeat(200_000) + "1]}";
+        OutboxEvent event = entityManager.persistAndFlush(OutboxEvent.builder()
+                .aggregateType(AggregateType.PROJECT)
+                .aggregateId(1L)
+                .aggregateSequence(1L)
+                .eventType(ChangeType.UPDATED)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+
+        assertThat(sink.delivered).extracting(OutboxMessage::id).containsExactly(event.getId());
+        assertThat(sink.delivered.get(0).payload()).isEqualTo(payload);
+    }
+
+    @Test
+    void purge_DeletesPublishedEventsPastRetention() {
+        OutboxEvent old = persist(AggregateType.TASK, 1L, 1, ChangeType.CREATED);
+        OutboxEvent recent = persist(AggregateType.TASK, 2L, 1, ChangeType.CREATED);
+        OutboxEvent pending = persist(AggregateType.TASK, 3L, 1, ChangeType.CREATED);
+        outboxEventRepository.markPublished(List.of(old.getId()), LocalDateTime.now().minusDays(2));
+        outboxEventRepository.markPublished(List.of(recent.getId()), LocalDateTime.now());
+
+        outboxRelay.purge();
+
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getId)
+                .containsExactlyInAnyOrder(recent.getId(), pending.getId());
+    }
+
+    private OutboxEvent persist(AggregateType aggregateType, Long aggregateId, long aggregateSequence,
+                                ChangeType eventType) {
+        return entityManager.persistAndFlush(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .aggregateSequence(aggregateSequence)
+                .eventType(eventType)
+                .payload("{\"id\":" + aggregateId + "}")
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static final class RecordingSink implements OutboxSink {
+
+        private final List<OutboxMessage> delivered = new ArrayList<>();
+        private final Set<Long> failing = new HashSet<>();
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void publish(OutboxMessage message) {
+            if (failing.contains(message.id()))
+                throw new IllegalStateException("Sink unavailable");
+            delivered.add(message);
+        }
+    }
+}
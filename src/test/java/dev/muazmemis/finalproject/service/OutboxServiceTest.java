@@ -0,0 +1,77 @@
+package dev.muazmemis.finalproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.muazmemis.finalproject.dto.task.TaskResponse;
+import dev.muazmemis.finalproject.model.entity.OutboxEvent;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.OutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private OutboxService outboxService;
+
+    @Test
+    void append_StoresSerializedPayload() {
+        TaskResponse response = new TaskResponse(1L, "Task", null, null, TaskState.BACKLOG, TaskPriority.HIGH, null,
+                2L, null, List.of(), List.of(), 0L);
+
+        outboxService.append(AggregateType.TASK, 1L, ChangeType.CREATED, response);
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+        assertThat(event.getAggregateType()).isEqualTo(AggregateType.TASK);
+        assertThat(event.getAggregateId()).isEqualTo(1L);
+        assertThat(event.getAggregateSequence()).isEqualTo(1L);
+        assertThat(event.getEventType()).isEqualTo(ChangeType.CREATED);
+        assertThat(event.getPayload()).contains("\"id\":1", "\"title\":\"Task\"", "\"projectId\":2");
+        assertThat(event.getCreatedAt()).isNotNull();
+        assertThat(event.getPublishedAt()).isNull();
+        verify(outboxEventRepository, never()).findLastAggregateSequence(any(), any());
+    }
+
+    @Test
+    void append_LaterChange_TakesNextSequenceOfItsAggregate() {
+        when(outboxEventRepository.findLastAggregateSequence(AggregateType.PROJECT, 5L)).thenReturn(3L);
+
+        outboxService.append(AggregateType.PROJECT, 5L, ChangeType.UPDATED, Map.of("id", 5));
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        InOrder inOrder = inOrder(outboxEventRepository);
+        inOrder.verify(outboxEventRepository).flush();
+        inOrder.verify(outboxEventRepository).findLastAggregateSequence(AggregateType.PROJECT, 5L);
+        inOrder.verify(outboxEventRepository).save(captor.capture());
+        assertThat(captor.getValue().getAggregateSequence()).isEqualTo(4L);
+    }
+}
@@ -4,12 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,14 +25,13 @@ import dev.muazmemis.finalproject.dto.project.ProjectRequest;
 import dev.muazmemis.finalproject.dto.project.ProjectResponse;
 import dev.muazmemis.finalproject.dto.project.ProjectStatusUpdateRequest;
 import dev.muazmemis.finalproject.dto.project.ProjectUpdateRequest;
+import dev.muazmemis.finalproject.exception.PreconditionFailedException;
 import dev.muazmemis.finalproject.mapper.ProjectMapper;
 import dev.muazmemis.finalproject.model.entity.Department;
 import dev.muazmemis.finalproject.model.entity.Project;
-import dev.muazmemis.finalproject.model.entity.Task;
 import dev.muazmemis.finalproject.model.entity.User;
 import dev.muazmemis.finalproject.model.enums.ProjectStatus;
 import dev.muazmemis.finalproject.model.enums.Role;
-import dev.muazmemis.finalproject.model.enums.TaskState;
 import dev.muazmemis.finalproject.repository.DepartmentRepository;
 import dev.muazmemis.finalproject.repository.ProjectRepository;
 import dev.muazmemis.finalproject.repository.UserRepository;
@@ -50,6 +52,9 @@ class ProjectServiceTest {
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -82,7 +87,7 @@ class ProjectServiceTest {
                 .description("Description")
                 .status(ProjectStatus.IN_PROGRESS)
                 .department(department)
-                .teamMembers(new ArrayList<>())
+                .teamMembers(new HashSet<>())
                 .tasks(new ArrayList<>())
                 .active(true)
                 .build();
@@ -90,7 +95,7 @@ class ProjectServiceTest {
         request = new ProjectRequest("Project 1", "Description", 1L, List.of(1L));
 
         response = new ProjectResponse(1L, "Project 1", "Description", ProjectStatus.IN_PROGRESS, "IT", List.of(),
-                List.of());
+                List.of(), 0L);
 
         updateRequest = new ProjectUpdateRequest("Updated Project", "Updated Description", ProjectStatus.IN_PROGRESS,
                 List.of(1L));
@@ -104,15 +109,28 @@ class ProjectServiceTest {
         when(projectMapper.toEntity(request)).thenReturn(project);
         when(projectRepository.save(any(Project.class))).thenReturn(project);
         when(projectMapper.toResponse(project)).thenReturn(response);
-        when(userRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findAllByIdInAndActiveTrue(Set.of(1L))).thenReturn(List.of(user));
 
         ProjectResponse result = projectService.saveProject(request);
 
         assertNotNull(result);
         assertEquals(request.title(), result.title());
+        assertThat(project.getTeamMembers()).containsExactly(user);
         verify(projectRepository).save(any(Project.class));
     }
 
+    @Test
+    void saveProject_TeamMemberNotFound_ThrowsException() {
+        request = new ProjectRequest("Project 1", "Description", 1L, List.of(1L, 2L, 1L));
+        when(departmentRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(department));
+        when(projectMapper.toEntity(request)).thenReturn(project);
+        when(userRepository.findAllByIdInAndActiveTrue(Set.of(1L, 2L))).thenReturn(List.of(user));
+
+        assertThatThrownBy(() -> projectService.saveProject(request))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("User not found with id: 2");
+    }
+
     @Test
     void saveProject_DepartmentNotFound_ThrowsException() {
         when(departmentRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.empty());
@@ -174,14 +192,30 @@ class ProjectServiceTest {
     void updateProject_Success() {
         when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(project)).thenReturn(response);
-        when(userRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(user));
+        when(projectRepository.findTaskIds(1L)).thenReturn(List.of(3L));
+        when(projectRepository.findTeamMemberIds(1L)).thenReturn(List.of(1L));
+        when(projectMapper.toResponse(project, List.of(3L), List.of(1L))).thenReturn(response);
+        when(userRepository.findAllByIdInAndActiveTrue(Set.of(1L))).thenReturn(List.of(user));
+        User formerMember = User.builder().id(2L).username("former@example.com").active(true).build();
+        project.getTeamMembers().add(formerMember);
 
-        ProjectResponse result = projectService.updateProject(1L, updateRequest);
+        ProjectResponse result = projectService.updateProject(1L, updateRequest, null);
 
         assertNotNull(result);
+        assertThat(project.getTeamMembers()).containsExactly(user);
         verify(projectMapper).updateEntity(project, updateRequest);
         verify(projectRepository).save(project);
+        verify(projectRepository).flush();
+    }
+
+    @Test
+    void updateProject_StaleIfMatch_ThrowsPreconditionFailed() {
+        when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
+
+        assertThatThrownBy(() -> projectService.updateProject(1L, updateRequest, 2L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("Project 1 has changed: expected version 2 but it is at version 0");
+        verify(projectMapper, never()).updateEntity(any(), any());
     }
 
     @Test
@@ -189,7 +223,7 @@ class ProjectServiceTest {
         project.setStatus(ProjectStatus.COMPLETED);
         when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
 
-        assertThatThrownBy(() -> projectService.updateProject(1L, updateRequest))
+        assertThatThrownBy(() -> projectService.updateProject(1L, updateRequest, null))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Cannot update a completed project");
     }
@@ -198,13 +232,15 @@ class ProjectServiceTest {
     void updateProjectStatus_Success() {
         when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(project)).thenReturn(response);
+        when(projectRepository.findTaskIds(1L)).thenReturn(List.of(3L));
+        when(projectMapper.toResponse(project, List.of(3L), List.of())).thenReturn(response);
 
-        ProjectResponse result = projectService.updateProductStatus(1L, statusUpdateRequest);
+        ProjectResponse result = projectService.updateProductStatus(1L, statusUpdateRequest, null);
 
         assertNotNull(result);
         assertEquals(statusUpdateRequest.status(), project.getStatus());
         verify(projectRepository).save(project);
+        verify(projectMapper, never()).toResponse(project);
     }
 
     @Test
@@ -213,24 +249,20 @@ class ProjectServiceTest {
         statusUpdateRequest = new ProjectStatusUpdateRequest(ProjectStatus.COMPLETED);
         when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
 
-        assertThatThrownBy(() -> projectService.updateProductStatus(1L, statusUpdateRequest))
+        assertThatThrownBy(() -> projectService.updateProductStatus(1L, statusUpdateRequest, null))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Project is already in the requested state");
     }
 
     @Test
     void updateProjectStatus_IncompleteTasksForCompletion_ThrowsException() {
-        Task incompleteTask = Task.builder()
-                .id(1L)
-                .state(TaskState.IN_PROGRESS)
-                .build();
-        project.getTasks().add(incompleteTask);
-
         when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
+        when(projectRepository.findOpenTaskCount(1L)).thenReturn(1L);
 
-        assertThatThrownBy(() -> projectService.updateProductStatus(1L, statusUpdateRequest))
+        assertThatThrownBy(() -> projectService.updateProductStatus(1L, statusUpdateRequest, null))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Cannot update project status while there are incomplete tasks");
+        verify(projectRepository, never()).save(any(Project.class));
     }
 
     @Test
@@ -247,30 +279,46 @@ class ProjectServiceTest {
     @Test
     void addTeamMembers_Success() {
         when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
-        when(userRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(user));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(project)).thenReturn(response);
+        when(userRepository.findAllByIdInAndActiveTrue(Set.of(1L))).thenReturn(List.of(user));
+        when(projectRepository.addTeamMembers(1L, Set.of(1L))).thenReturn(1);
+        when(projectRepository.save(project)).thenReturn(project);
+        when(projectRepository.findTeamMemberIds(1L)).thenReturn(List.of(1L));
+        when(projectMapper.toResponse(project, List.of(), List.of(1L))).thenReturn(response);
 
-        ProjectResponse result = projectService.addTeamMembers(1L, List.of(1L));
+        ProjectResponse result = projectService.addTeamMembers(1L, List.of(1L, 1L));
 
         assertNotNull(result);
-        assertThat(project.getTeamMembers()).contains(user);
+        verify(projectRepository).addTeamMembers(1L, Set.of(1L));
         verify(projectRepository).save(project);
+        verify(projectRepository).flush();
+        assertNotNull(project.getUpdatedAt());
     }
 
     @Test
-    void removeTeamMembers_Success() {
-        project.getTeamMembers().add(user);
+    void addTeamMembers_UserNotFound_ThrowsException() {
+        when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findAllByIdInAndActiveTrue(Set.of(1L, 2L))).thenReturn(List.of(user));
 
+        assertThatThrownBy(() -> projectService.addTeamMembers(1L, List.of(1L, 2L)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("User not found with id: 2");
+        verify(projectRepository, never()).addTeamMembers(any(), any());
+    }
+
+    @Test
+    void removeTeamMembers_Success() {
         when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
-        when(userRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(user));
-        when(projectRepository.save(any(Project.class))).thenReturn(project);
-        when(projectMapper.toResponse(project)).thenReturn(response);
+        when(userRepository.findAllByIdInAndActiveTrue(Set.of(1L))).thenReturn(List.of(user));
+        when(projectRepository.removeTeamMembers(1L, Set.of(1L))).thenReturn(1);
+        when(projectRepository.save(project)).thenReturn(project);
+        when(projectRepository.findTeamMemberIds(1L)).thenReturn(List.of());
+        when(projectMapper.toResponse(project, List.of(), List.of())).thenReturn(response);
 
         ProjectResponse result = projectService.removeTeamMembers(1L, List.of(1L));
 
         assertNotNull(result);
-        assertThat(project.getTeamMembers()).doesNotContain(user);
+        verify(projectRepository).removeTeamMembers(1L, Set.of(1L));
         verify(projectRepository).save(project);
+        verify(projectRepository).flush();
     }
 }
@@ -0,0 +1,203 @@
+package dev.muazmemis.finalproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.dto.task.TaskExportRequest;
+import dev.muazmemis.finalproject.model.entity.Attachment;
+import dev.muazmemis.finalproject.model.entity.Comment;
+import dev.muazmemis.finalproject.model.entity.Department;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.DataFormat;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import jakarta.persistence.EntityNotFoundException;
+
+@DataJpaTest(properties = "application.export.fetch-size=2")
+@Import(TaskExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class TaskExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Department department;
+    private Project project;
+    private Project otherProject;
+    private Task first;
+    private Task second;
+    private Task third;
+
+    @BeforeEach
+    void setUp() {
+        department = entityManager.persist(Department.builder()
+                .name("IT")
+                .active(true)
+                .build());
+        project = entityManager.persist(project("Project 1"));
+        otherProject = entityManager.persist(project("Project 2"));
+
+        first = entityManager.persist(task(project, "First, \"quoted\"", true));
+        second = entityManager.persist(task(project, "Second", true));
+        entityManager.persist(task(project, "Deleted", false));
+        third = entityManager.persist(task(otherProject, "Third", true));
+
+        entityManager.persist(comment(first, "Looks good", true));
+        entityManager.persist(comment(first, "Removed", false));
+        entityManager.persist(comment(third, "Other project", true));
+        entityManager.persist(Attachment.builder()
+                .fileName("spec.pdf")
+                .filePath("/tmp/spec.pdf")
+                .fileType("application/pdf")
+                .fileSize(42L)
+                .task(second)
+                .active(true)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void exportTasks_ProjectAsNdjson_WritesOneLinePerActiveTask() throws IOException {
+        List<JsonNode> lines = exportNdjson(new TaskExportRequest(project.getId(), null, DataFormat.NDJSON,
+                false, false));
+
+        assertThat(lines).extracting(line -> line.get("id").asLong()).containsExactly(first.getId(), second.getId());
+        assertThat(lines.get(0).get("title").asText()).isEqualTo("First, \"quoted\"");
+        assertThat(lines.get(0).get("state").asText()).isEqualTo("BACKLOG");
+        assertThat(lines.get(0).has("comments")).isFalse();
+        assertThat(lines.get(0).has("attachments")).isFalse();
+    }
+
+    @Test
+    void exportTasks_DepartmentWithChildren_IncludesActiveCommentsAndAttachments() throws IOException {
+        List<JsonNode> lines = exportNdjson(new TaskExportRequest(null, department.getId(), DataFormat.NDJSON,
+                true, true));
+
+        assertThat(lines).extracting(line -> line.get("id").asLong())
+                .containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(lines.get(0).get("comments")).hasSize(1);
+        assertThat(lines.get(0).get("comments").get(0).get("content").asText()).isEqualTo("Looks good");
+        assertThat(lines.get(0).get("attachments")).isEmpty();
+        assertThat(lines.get(1).get("attachments").get(0).get("fileName").asText()).isEqualTo("spec.pdf");
+        assertThat(lines.get(1).get("attachments").get(0).has("filePath")).isFalse();
+        assertThat(lines.get(2).get("comments").get(0).get("content").asText()).isEqualTo("Other project");
+    }
+
+    @Test
+    void exportTasks_Csv_WritesHeaderAndEscapedRows() throws IOException {
+        String[] rows = export(new TaskExportRequest(project.getId(), null, DataFormat.CSV, false, false))
+                .split("\r\n");
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows[0]).isEqualTo("id,title,userStory,acceptanceCriteria,state,priority,stateChangeReason,"
+                + "projectId,assigneeId,createdAt,updatedAt");
+        assertThat(rows[1]).startsWith(first.getId() + ",\"First, \"\"quoted\"\"\",User Story,Acceptance Criteria,"
+                + "BACKLOG,HIGH,," + project.getId() + ",,");
+        assertThat(rows[2]).startsWith(second.getId() + ",Second,");
+    }
+
+    @Test
+    void validateExport_RequiresExactlyOneScope() {
+        assertThatThrownBy(() -> taskExportService.validateExport(
+                new TaskExportRequest(null, null, DataFormat.NDJSON, false, false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.EXPORT_SCOPE_REQUIRED);
+        assertThatThrownBy(() -> taskExportService.validateExport(
+                new TaskExportRequest(project.getId(), department.getId(), DataFormat.NDJSON, false, false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.EXPORT_SCOPE_REQUIRED);
+    }
+
+    @Test
+    void validateExport_CsvWithChildren_ThrowsIllegalStateException() {
+        assertThatThrownBy(() -> taskExportService.validateExport(
+                new TaskExportRequest(project.getId(), null, DataFormat.CSV, true, false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.EXPORT_CSV_CHILDREN);
+    }
+
+    @Test
+    void validateExport_UnknownProject_ThrowsEntityNotFoundException() {
+        assertThatThrownBy(() -> taskExportService.validateExport(
+                new TaskExportRequest(999L, null, DataFormat.NDJSON, false, false)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(String.format(ErrorMessages.PROJECT_NOT_FOUND, 999L));
+    }
+
+    private List<JsonNode> exportNdjson(TaskExportRequest request) throws IOException {
+        String content = export(request);
+        assertThat(content).endsWith("\n");
+
+        return content.lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private String export(TaskExportRequest request) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        taskExportService.exportTasks(request, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private Project project(String title) {
+        return Project.builder()
+                .title(title)
+                .description("Description")
+                .status(ProjectStatus.IN_PROGRESS)
+                .department(department)
+                .active(true)
+                .build();
+    }
+
+    private Task task(Project taskProject, String title, boolean active) {
+        return Task.builder()
+                .title(title)
+                .userStory("User Story")
+                .acceptanceCriteria("Acceptance Criteria")
+                .state(TaskState.BACKLOG)
+                .priority(TaskPriority.HIGH)
+                .project(taskProject)
+                .active(active)
+                .build();
+    }
+
+    private Comment comment(Task task, String content, boolean active) {
+        return Comment.builder()
+                .content(content)
+                .task(task)
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package dev.muazmemis.finalproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import dev.muazmemis.finalproject.constant.EndPoints;
+import dev.muazmemis.finalproject.controller.TaskController;
+import dev.muazmemis.finalproject.event.TaskChangeEvent;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+
+class TaskFeedServiceTest {
+
+    private TaskFeedService taskFeedService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskFeedService = new TaskFeedService();
+        ReflectionTestUtils.setField(taskFeedService, "historySize", 3);
+        ReflectionTestUtils.setField(taskFeedService, "subscriberBuffer", 16);
+        ReflectionTestUtils.setField(taskFeedService, "timeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(taskFeedService, "heartbeat", Duration.ofHours(1));
+        ReflectionTestUtils.setField(taskFeedService, "threads", 1);
+        taskFeedService.init();
+
+        TaskController taskController = new TaskController(mock(TaskService.class), mock(TaskExportService.class),
+                mock(TaskImportService.class), mock(TaskSearchService.class), mock(CommentService.class),
+                taskFeedService);
+        mockMvc = MockMvcBuilders.standaloneSetup(taskController).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskFeedService.shutdown();
+    }
+
+    @Test
+    void subscribe_Project_ReceivesOnlyThatProjectsChanges() throws Exception {
+        MvcResult result = subscribe(get(EndPoints.TASK_ENDPOINT + "/feed").param("projectId", "1"));
+
+        taskFeedService.onTaskChange(new TaskChangeEvent(ChangeType.CREATED, 10L, 2L, TaskState.BACKLOG));
+        taskFeedService.onTaskChange(new TaskChangeEvent(ChangeType.STATE_CHANGED, 11L, 1L,
+                TaskState.IN_ANALYSIS));
+
+        String content = awaitContent(result, "\"taskId\":11");
+        assertThat(content).contains("event:" + TaskFeedService.CHANGE_EVENT);
+        assertThat(content).contains("\"type\":\"STATE_CHANGED\"", "\"state\":\"IN_ANALYSIS\"");
+        assertThat(content).doesNotContain("\"taskId\":10");
+    }
+
+    @Test
+    void subscribe_LastEventId_ReplaysMissedChanges() throws Exception {
+        long before = latestEventId();
+        for (long taskId = 1; taskId <= 3; taskId++)
+            taskFeedService.onTaskChange(new TaskChangeEvent(ChangeType.UPDATED, taskId, 1L, TaskState.BACKLOG));
+
+        MvcResult result = subscribe(get(EndPoints.TASK_ENDPOINT + "/feed")
+                .header("Last-Event-ID", String.valueOf(before + 1)));
+
+        String content = awaitContent(result, "\"taskId\":3");
+        assertThat(content).startsWith("id:" + (before + 2) + "\n");
+        assertThat(content).contains("id:" + (before + 3) + "\n");
+        assertThat(content).doesNotContain("\"taskId\":1,");
+    }
+
+    @Test
+    void subscribe_LastEventIdOutsideHistory_SendsResetAndCompletes() throws Exception {
+        long before = latestEventId();
+        for (long taskId = 1; taskId <= 5; taskId++)
+            taskFeedService.onTaskChange(new TaskChangeEvent(ChangeType.UPDATED, taskId, 1L, TaskState.BACKLOG));
+
+        MvcResult result = subscribe(get(EndPoints.TASK_ENDPOINT + "/feed")
+                .header("Last-Event-ID", String.valueOf(before)));
+
+        String content = awaitContent(result, "event:" + TaskFeedService.RESET_EVENT);
+        assertThat(content).startsWith("id:" + (before + 5) + "\n");
+        assertThat(content).doesNotContain("\"taskId\"");
+    }
+
+    private MvcResult subscribe(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private long latestEventId() {
+        return ((AtomicLong) ReflectionTestUtils.getField(taskFeedService, "sequence")).get();
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
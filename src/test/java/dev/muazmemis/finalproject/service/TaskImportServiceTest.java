@@ -0,0 +1,353 @@
+package dev.muazmemis.finalproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.muazmemis.finalproject.constant.EndPoints;
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.controller.TaskController;
+import dev.muazmemis.finalproject.dto.task.TaskImportError;
+import dev.muazmemis.finalproject.dto.task.TaskImportStatus;
+import dev.muazmemis.finalproject.event.TaskChangeEvent;
+import dev.muazmemis.finalproject.exception.TooManyRequestsException;
+import dev.muazmemis.finalproject.mapper.TaskMapper;
+import dev.muazmemis.finalproject.mapper.TaskMapperImpl;
+import dev.muazmemis.finalproject.model.entity.Project;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.DataFormat;
+import dev.muazmemis.finalproject.model.enums.ProjectStatus;
+import dev.muazmemis.finalproject.model.enums.TaskImportState;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.ProjectRepository;
+import dev.muazmemis.finalproject.repository.TaskRepository;
+import dev.muazmemis.finalproject.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private TaskMapper taskMapper = new TaskMapperImpl();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @InjectMocks
+    private TaskImportService taskImportService;
+
+    private static final String ROW = """
+            {"title":"First","userStory":"Story","acceptanceCriteria":"Criteria","priority":"HIGH","projectId":1}
+            """;
+
+    private final List<Task> savedTasks = new ArrayList<>();
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskImportService, "threads", 1);
+        ReflectionTestUtils.setField(taskImportService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(taskImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(taskImportService, "retention", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(taskImportService, "retryAfter", Duration.ofSeconds(30));
+        taskImportService.init();
+
+        project = Project.builder()
+                .id(1L)
+                .title("Project 1")
+                .status(ProjectStatus.IN_PROGRESS)
+                .active(true)
+                .build();
+
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(taskRepository.saveAll(any())).thenAnswer(invocation -> {
+            invocation.<Iterable<Task>>getArgument(0).forEach(savedTasks::add);
+            return invocation.getArgument(0);
+        });
+        lenient().when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
+        lenient().when(projectRepository.getReferenceById(1L)).thenReturn(project);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskImportService.shutdown();
+    }
+
+    @Test
+    void submitImport_Ndjson_ImportsValidRowsAndReportsErrors() throws Exception {
+        String content = """
+                {"title":"First","userStory":"Story","acceptanceCriteria":"Criteria","priority":"HIGH","projectId":1}
+                {"title":"Second","userStory":"Story","acceptanceCriteria":"Criteria","priority":"LOW","projectId":1,"state":"COMPLETED"}
+
+                {"title":
+                {"userStory":"Story","acceptanceCriteria":"Criteria","priority":"HIGH","projectId":1}
+                {"title":"Missing project","userStory":"Story","acceptanceCriteria":"Criteria","priority":"HIGH","projectId":2}
+                {"title":"Third","userStory":"Story","acceptanceCriteria":"Criteria","priority":"MEDIUM","projectId":1}
+                """;
+
+        TaskImportStatus status = awaitCompletion(taskImportService.submitImport(file(content), DataFormat.NDJSON));
+
+        assertThat(status.state()).isEqualTo(TaskImportState.COMPLETED);
+        assertThat(status.processed()).isEqualTo(6);
+        assertThat(status.imported()).isEqualTo(3);
+        assertThat(status.failed()).isEqualTo(3);
+        assertThat(status.errors()).extracting(TaskImportError::row).containsExactly(4L, 5L, 6L);
+        assertThat(status.errors().get(1).message()).isEqualTo("Title is required");
+        assertThat(status.errors().get(2).message()).isEqualTo(String.format(ErrorMessages.PROJECT_NOT_FOUND, 2L));
+        assertThat(status.finishedAt()).isNotNull();
+
+        assertThat(savedTasks).extracting(Task::getTitle).containsExactly("First", "Second", "Third");
+        assertThat(savedTasks).extracting(Task::getState)
+                .containsExactly(TaskState.BACKLOG, TaskState.COMPLETED, TaskState.BACKLOG);
+        assertThat(savedTasks).allSatisfy(task -> assertThat(task.getProject()).isSameAs(project));
+        verify(taskRepository, times(2)).saveAll(any());
+        verify(projectRepository, times(2)).adjustOpenTaskCount(1L, 1L);
+        verify(projectRepository, never()).adjustOpenTaskCount(1L, 2L);
+        verify(projectRepository).findByIdAndActiveTrue(1L);
+    }
+
+    @Test
+    void submitImport_Csv_ParsesQuotedFieldsAndResolvesAssignee() throws Exception {
+        User assignee = User.builder().id(7L).active(true).build();
+        when(userRepository.findByIdAndActiveTrue(7L)).thenReturn(Optional.of(assignee));
+        when(userRepository.getReferenceById(7L)).thenReturn(assignee);
+        String content = "title,userStory,acceptanceCriteria,priority,projectId,assigneeId,state,stateChangeReason\r\n"
+                + "\"Login, signup\",\"As a user\nI want to log in\",Criteria,CRITICAL,1,7,,\r\n"
+                + "Blocked,Story,Criteria,HIGH,1,,BLOCKED,\r\n"
+                + "Urgent,Story,Criteria,URGENT,1,,,\r\n";
+
+        TaskImportStatus status = awaitCompletion(taskImportService.submitImport(file(content), DataFormat.CSV));
+
+        assertThat(status.imported()).isEqualTo(1);
+        assertThat(status.errors()).containsExactly(
+                new TaskImportError(2, "Reason is required when changing state to CANCELLED or BLOCKED"),
+                new TaskImportError(3, "Invalid value for priority: URGENT"));
+        assertThat(savedTasks).singleElement().satisfies(task -> {
+            assertThat(task.getTitle()).isEqualTo("Login, signup");
+            assertThat(task.getUserStory()).isEqualTo("As a user\nI want to log in");
+            assertThat(task.getPriority()).isEqualTo(TaskPriority.CRITICAL);
+            assertThat(task.getAssignee()).isSameAs(assignee);
+        });
+    }
+
+    @Test
+    void submitImport_CsvMissingColumns_FailsImport() throws Exception {
+        TaskImportStatus status = awaitCompletion(taskImportService.submitImport(
+                file("title,priority\r\nFirst,HIGH\r\n"), DataFormat.CSV));
+
+        assertThat(status.state()).isEqualTo(TaskImportState.FAILED);
+        assertThat(status.error()).isEqualTo("Missing CSV columns: userStory, acceptanceCriteria, projectId");
+        assertThat(savedTasks).isEmpty();
+    }
+
+    @Test
+    void submitImport_BatchFails_ReportsEveryRowOfBatch() throws Exception {
+        doThrow(new DataIntegrityViolationException("constraint violated")).when(taskRepository).saveAll(any());
+        String content = """
+                {"title":"First","userStory":"Story","acceptanceCriteria":"Criteria","priority":"HIGH","projectId":1}
+                {"title":"Second","userStory":"Story","acceptanceCriteria":"Criteria","priority":"HIGH","projectId":1}
+                """;
+
+        TaskImportStatus status = awaitCompletion(taskImportService.submitImport(file(content), DataFormat.NDJSON));
+
+        assertThat(status.state()).isEqualTo(TaskImportState.COMPLETED);
+        assertThat(status.imported()).isZero();
+        assertThat(status.errors()).containsExactly(
+                new TaskImportError(1, "Not imported: constraint violated"),
+                new TaskImportError(2, "Not imported: constraint violated"));
+    }
+
+    @Test
+    void submitImport_FeedSubscriber_ReceivesImportedTasks() throws Exception {
+        TaskFeedService taskFeedService = new TaskFeedService();
+        ReflectionTestUtils.setField(taskFeedService, "historySize", 10);
+        ReflectionTestUtils.setField(taskFeedService, "subscriberBuffer", 16);
+        ReflectionTestUtils.setField(taskFeedService, "timeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(taskFeedService, "heartbeat", Duration.ofHours(1));
+        ReflectionTestUtils.setField(taskFeedService, "threads", 1);
+        taskFeedService.init();
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0) instanceof TaskChangeEvent event)
+                taskFeedService.onTaskChange(event);
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+        AtomicLong ids = new AtomicLong(100);
+        doAnswer(invocation -> {
+            invocation.<Iterable<Task>>getArgument(0).forEach(task -> task.setId(ids.incrementAndGet()));
+            return invocation.getArgument(0);
+        }).when(taskRepository).saveAll(any());
+        TaskController taskController = new TaskController(mock(TaskService.class), mock(TaskExportService.class),
+                taskImportService, mock(TaskSearchService.class), mock(CommentService.class), taskFeedService);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(taskController).build();
+
+        try {
+            MvcResult result = mockMvc.perform(get(EndPoints.TASK_ENDPOINT + "/feed").param("projectId", "1"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String content = """
+                    {"title":"First","userStory":"Story","acceptanceCriteria":"Criteria","priority":"HIGH","projectId":1}
+                    {"title":"Second","userStory":"Story","acceptanceCriteria":"Criteria","priority":"LOW","projectId":1}
+                    {"title":"Third","userStory":"Story","acceptanceCriteria":"Criteria","priority":"LOW","projectId":1}
+                    """;
+            awaitCompletion(taskImportService.submitImport(file(content), DataFormat.NDJSON));
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            String events = result.getResponse().getContentAsString();
+            while (!events.contains("\"taskId\":103") && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+                events = result.getResponse().getContentAsString();
+            }
+
+            assertThat(events).contains("event:" + TaskFeedService.CHANGE_EVENT, "\"type\":\"CREATED\"",
+                    "\"taskId\":101", "\"taskId\":102", "\"taskId\":103");
+        } finally {
+            taskFeedService.shutdown();
+        }
+    }
+
+    @Test
+    void submitImport_QueueFull_ThrowsTooManyRequestsException() throws Exception {
+        CountDownLatch release = blockImports();
+        try {
+            taskImportService.submitImport(file(ROW), DataFormat.NDJSON);
+            taskImportService.submitImport(file(ROW), DataFormat.NDJSON);
+
+            assertThatThrownBy(() -> taskImportService.submitImport(file(ROW), DataFormat.NDJSON))
+                    .isInstanceOf(TooManyRequestsException.class)
+                    .hasMessage(ErrorMessages.IMPORT_QUEUE_FULL)
+                    .extracting("retryAfter").isEqualTo(Duration.ofSeconds(30));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void getImportStatus_RunningPastRetention_KeepsJobUntilRetentionAfterFinish() throws Exception {
+        ReflectionTestUtils.setField(taskImportService, "retention", Duration.ZERO);
+        taskImportService.shutdown();
+        taskImportService.init();
+        CountDownLatch release = blockImports();
+
+        TaskImportStatus submitted = taskImportService.submitImport(file(ROW), DataFormat.NDJSON);
+        Thread.sleep(50);
+
+        assertThat(taskImportService.getImportStatus(submitted.id()).finishedAt()).isNull();
+
+        release.countDown();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        boolean expired = false;
+        while (!expired && System.nanoTime() < deadline) {
+            try {
+                taskImportService.getImportStatus(submitted.id());
+                Thread.sleep(10);
+            } catch (EntityNotFoundException e) {
+                expired = true;
+            }
+        }
+
+        assertThat(expired).isTrue();
+        assertThat(savedTasks).hasSize(1);
+    }
+
+    @Test
+    void getImportStatus_UnknownImport_ThrowsEntityNotFoundException() {
+        UUID id = UUID.randomUUID();
+
+        assertThatThrownBy(() -> taskImportService.getImportStatus(id))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage(String.format(ErrorMessages.IMPORT_NOT_FOUND, id));
+    }
+
+    private CountDownLatch blockImports() {
+        CountDownLatch release = new CountDownLatch(1);
+        lenient().doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        return release;
+    }
+
+    private MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "tasks", "text/plain", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private TaskImportStatus awaitCompletion(TaskImportStatus submitted) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        TaskImportStatus status = taskImportService.getImportStatus(submitted.id());
+        while (status.finishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = taskImportService.getImportStatus(submitted.id());
+        }
+        return status;
+    }
+}
@@ -0,0 +1,117 @@
+package dev.muazmemis.finalproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.muazmemis.finalproject.constant.ErrorMessages;
+import dev.muazmemis.finalproject.dto.common.CursorPageResponse;
+import dev.muazmemis.finalproject.dto.task.TaskResponse;
+import dev.muazmemis.finalproject.dto.task.TaskSearchQuery;
+import dev.muazmemis.finalproject.dto.task.TaskSearchResult;
+import dev.muazmemis.finalproject.exception.InvalidCursorException;
+import dev.muazmemis.finalproject.mapper.TaskResponseAssembler;
+import dev.muazmemis.finalproject.model.entity.Task;
+import dev.muazmemis.finalproject.model.enums.TaskPriority;
+import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.TaskRepository;
+import dev.muazmemis.finalproject.repository.TaskSearchRepository;
+import dev.muazmemis.finalproject.repository.projection.TaskSearchHit;
+import dev.muazmemis.finalproject.util.CursorUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchServiceTest {
+
+    @Mock
+    private TaskSearchRepository taskSearchRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskResponseAssembler taskResponseAssembler;
+
+    @InjectMocks
+    private TaskSearchService taskSearchService;
+
+    private final TaskSearchQuery query = new TaskSearchQuery("login", null, null);
+
+    @Test
+    void searchTasks_KeepsRankOrderAndReturnsOffsetCursor() {
+        Task first = task(2L);
+        Task second = task(1L);
+        when(taskSearchRepository.search(query, 2, 3)).thenReturn(List.of(
+                new TaskSearchHit(2L, 0.9), new TaskSearchHit(1L, 0.5), new TaskSearchHit(3L, 0.1)));
+        when(taskRepository.findAllByIdInAndActiveTrue(List.of(2L, 1L))).thenReturn(List.of(second, first));
+        when(taskResponseAssembler.toResponseList(List.of(first, second)))
+                .thenReturn(List.of(response(2L), response(1L)));
+
+        CursorPageResponse<TaskSearchResult> page = taskSearchService.searchTasks(query,
+                CursorUtils.encodeOffset(2), 2);
+
+        assertThat(page.items()).extracting(result -> result.task().id()).containsExactly(2L, 1L);
+        assertThat(page.items()).extracting(TaskSearchResult::rank).containsExactly(0.9, 0.5);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CursorUtils.decodeOffset(page.nextCursor())).isEqualTo(4);
+    }
+
+    @Test
+    void searchTasks_SkipsTasksDeletedSinceIndexing() {
+        Task remaining = task(1L);
+        when(taskSearchRepository.search(query, 0, 21)).thenReturn(List.of(
+                new TaskSearchHit(2L, 0.9), new TaskSearchHit(1L, 0.5)));
+        when(taskRepository.findAllByIdInAndActiveTrue(anyList())).thenReturn(List.of(remaining));
+        when(taskResponseAssembler.toResponseList(List.of(remaining))).thenReturn(List.of(response(1L)));
+
+        CursorPageResponse<TaskSearchResult> page = taskSearchService.searchTasks(query, null, null);
+
+        assertThat(page.items()).extracting(result -> result.task().id()).containsExactly(1L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(taskSearchRepository).search(query, 0, 21);
+    }
+
+    @Test
+    void searchTasks_BlankQuery_ThrowsIllegalStateException() {
+        assertThatThrownBy(() -> taskSearchService.searchTasks(new TaskSearchQuery(" ", null, null), null, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(ErrorMessages.SEARCH_QUERY_REQUIRED);
+        verifyNoInteractions(taskSearchRepository);
+    }
+
+    @Test
+    void searchTasks_IdCursor_ThrowsInvalidCursorException() {
+        String cursor = CursorUtils.encodeId(5L);
+
+        assertThatThrownBy(() -> taskSearchService.searchTasks(query, cursor, 10))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage(String.format(ErrorMessages.INVALID_CURSOR, cursor));
+        verifyNoInteractions(taskSearchRepository);
+    }
+
+    private Task task(Long id) {
+        return Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .state(TaskState.BACKLOG)
+                .priority(TaskPriority.HIGH)
+                .active(true)
+                .build();
+    }
+
+    private TaskResponse response(Long id) {
+        return new TaskResponse(id, "Task " + id, null, null, TaskState.BACKLOG, TaskPriority.HIGH, null, 1L, null,
+                List.of(), List.of(), 0L);
+    }
+}
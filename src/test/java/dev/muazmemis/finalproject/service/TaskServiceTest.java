@@ -6,36 +6,72 @@ import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.muazmemis.finalproject.constant.Pagination;
+import dev.muazmemis.finalproject.dto.common.CursorPageResponse;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateItem;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateRequest;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateResponse;
+import dev.muazmemis.finalproject.dto.task.TaskBulkStateUpdateResult;
+import dev.muazmemis.finalproject.dto.task.TaskFilter;
 import dev.muazmemis.finalproject.dto.task.TaskRequest;
 import dev.muazmemis.finalproject.dto.task.TaskResponse;
 import dev.muazmemis.finalproject.dto.task.TaskStateUpdateRequest;
+import dev.muazmemis.finalproject.dto.task.TaskTransitionsResponse;
 import dev.muazmemis.finalproject.dto.task.TaskUpdateRequest;
+import dev.muazmemis.finalproject.event.TasksChangedEvent;
+import dev.muazmemis.finalproject.exception.InvalidCursorException;
+import dev.muazmemis.finalproject.exception.PreconditionFailedException;
 import dev.muazmemis.finalproject.exception.TaskStateException;
 import dev.muazmemis.finalproject.mapper.TaskMapper;
+import dev.muazmemis.finalproject.mapper.TaskResponseAssembler;
+import dev.muazmemis.finalproject.model.entity.Attachment;
 import dev.muazmemis.finalproject.model.entity.Project;
 import dev.muazmemis.finalproject.model.entity.Task;
 import dev.muazmemis.finalproject.model.entity.User;
+import dev.muazmemis.finalproject.model.enums.AggregateType;
+import dev.muazmemis.finalproject.model.enums.ChangeType;
 import dev.muazmemis.finalproject.model.enums.ProjectStatus;
 import dev.muazmemis.finalproject.model.enums.Role;
 import dev.muazmemis.finalproject.model.enums.TaskPriority;
 import dev.muazmemis.finalproject.model.enums.TaskState;
+import dev.muazmemis.finalproject.repository.AttachmentRepository;
 import dev.muazmemis.finalproject.repository.ProjectRepository;
 import dev.muazmemis.finalproject.repository.TaskRepository;
 import dev.muazmemis.finalproject.repository.UserRepository;
+import dev.muazmemis.finalproject.util.CursorUtils;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +89,30 @@ class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskResponseAssembler taskResponseAssembler;
+
+    @Mock
+    private AttachmentService attachmentService;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private AuditorAware<User> auditorAware;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -95,13 +155,16 @@ class TaskServiceTest {
         request = new TaskRequest("Task 1", "User Story", "Acceptance Criteria", TaskPriority.HIGH, 1L, 1L, null);
 
         response = new TaskResponse(1L, "Task 1", "User Story", "Acceptance Criteria", TaskState.BACKLOG,
-                TaskPriority.HIGH, null, 1L, 1L, null, null);
+                TaskPriority.HIGH, null, 1L, 1L, null, null, 0L);
 
         updateRequest = new TaskUpdateRequest("Updated Task", "Updated User Story", "Updated Acceptance Criteria",
                 TaskState.BACKLOG, TaskPriority.MEDIUM, null, 1L);
 
         stateUpdateRequest = new TaskStateUpdateRequest(TaskState.IN_ANALYSIS, "Reason");
 
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
     }
 
     @Test
@@ -120,6 +183,44 @@ class TaskServiceTest {
         verify(taskRepository).save(any(Task.class));
     }
 
+    @Test
+    void saveTask_WithFiles_WritesFilesBeforeTransaction() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("files", "spec.pdf", "application/pdf", "spec".getBytes());
+        TaskRequest requestWithFiles = new TaskRequest("Task 1", "User Story", "Acceptance Criteria",
+                TaskPriority.HIGH, 1L, null, List.of(file));
+        Attachment attachment = Attachment.builder().fileName("spec.pdf").filePath("/tmp/spec.pdf").build();
+
+        when(attachmentService.saveAttachmentFiles(List.of(file))).thenReturn(List.of(attachment));
+        when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(project));
+        when(taskMapper.toEntity(requestWithFiles)).thenReturn(task);
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskMapper.toResponse(task)).thenReturn(response);
+
+        taskService.saveTask(requestWithFiles);
+
+        InOrder inOrder = inOrder(attachmentService, transactionTemplate);
+        inOrder.verify(attachmentService).saveAttachmentFiles(List.of(file));
+        inOrder.verify(transactionTemplate).execute(any());
+        verify(attachmentRepository).saveAll(List.of(attachment));
+        assertEquals(task, attachment.getTask());
+        verify(attachmentService, never()).deleteAttachmentFiles(any());
+    }
+
+    @Test
+    void saveTask_WithFiles_ProjectNotFound_DeletesWrittenFiles() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("files", "spec.pdf", "application/pdf", "spec".getBytes());
+        TaskRequest requestWithFiles = new TaskRequest("Task 1", "User Story", "Acceptance Criteria",
+                TaskPriority.HIGH, 1L, null, List.of(file));
+        List<Attachment> attachments = List.of(Attachment.builder().filePath("/tmp/spec.pdf").build());
+
+        when(attachmentService.saveAttachmentFiles(List.of(file))).thenReturn(attachments);
+        when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> taskService.saveTask(requestWithFiles))
+                .isInstanceOf(EntityNotFoundException.class);
+        verify(attachmentService).deleteAttachmentFiles(attachments);
+    }
+
     @Test
     void saveTask_ProjectNotFound_ThrowsException() {
         when(projectRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.empty());
@@ -170,17 +271,56 @@ class TaskServiceTest {
     }
 
     @Test
-    void getAllTasks_Success() {
-        List<Task> tasks = List.of(task);
+    void getTasks_FirstPage_ReturnsNextCursor() {
+        Task second = Task.builder().id(2L).title("Task 2").active(true).build();
+        TaskFilter filter = new TaskFilter(1L, null, null, null);
         List<TaskResponse> responses = List.of(response);
 
-        when(taskRepository.findAllActiveTasks()).thenReturn(tasks);
-        when(taskMapper.toResponseList(tasks)).thenReturn(responses);
+        when(taskRepository.findActiveTasksAfter(isNull(), eq(1L), isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(new ArrayList<>(List.of(task, second)));
+        when(taskResponseAssembler.toResponseList(List.of(task))).thenReturn(responses);
 
-        List<TaskResponse> result = taskService.getAllTasks();
+        CursorPageResponse<TaskResponse> result = taskService.getTasks(filter, null, 1);
 
-        assertNotNull(result);
-        assertThat(result).hasSize(1);
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        assertEquals(1L, CursorUtils.decodeId(result.nextCursor()));
+    }
+
+    @Test
+    void getTasks_WithCursor_ReturnsLastPage() {
+        TaskFilter filter = new TaskFilter(null, null, TaskState.BACKLOG, TaskPriority.HIGH);
+        List<TaskResponse> responses = List.of(response);
+
+        when(taskRepository.findActiveTasksAfter(eq(0L), isNull(), isNull(), eq(TaskState.BACKLOG),
+                eq(TaskPriority.HIGH), anyInt())).thenReturn(new ArrayList<>(List.of(task)));
+        when(taskResponseAssembler.toResponseList(List.of(task))).thenReturn(responses);
+
+        CursorPageResponse<TaskResponse> result = taskService.getTasks(filter, CursorUtils.encodeId(0L), null);
+
+        assertThat(result.items()).hasSize(1);
+        assertFalse(result.hasNext());
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getTasks_PageSizeIsBounded() {
+        TaskFilter filter = new TaskFilter(null, null, null, null);
+        when(taskRepository.findActiveTasksAfter(isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(Pagination.MAX_PAGE_SIZE + 1))).thenReturn(new ArrayList<>());
+
+        taskService.getTasks(filter, null, 10_000);
+
+        verify(taskRepository).findActiveTasksAfter(null, null, null, null, null, Pagination.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void getTasks_InvalidCursor_ThrowsException() {
+        TaskFilter filter = new TaskFilter(null, null, null, null);
+
+        assertThatThrownBy(() -> taskService.getTasks(filter, "not-a-cursor", null))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("Invalid page cursor");
     }
 
     @Test
@@ -190,19 +330,28 @@ class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(taskMapper.toResponse(task)).thenReturn(response);
 
-        TaskResponse result = taskService.updateTask(1L, updateRequest);
+        TaskResponse result = taskService.updateTask(1L, updateRequest, null);
 
         assertNotNull(result);
         verify(taskMapper).updateEntity(task, updateRequest);
         verify(taskRepository).save(task);
     }
 
+    @Test
+    void updateTask_StaleIfMatch_ThrowsPreconditionFailed() {
+        when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> taskService.updateTask(1L, updateRequest, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(taskMapper, never()).updateEntity(any(), any());
+    }
+
     @Test
     void updateTask_CompletedTask_ThrowsException() {
         task.setState(TaskState.COMPLETED);
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
 
-        assertThatThrownBy(() -> taskService.updateTask(1L, updateRequest))
+        assertThatThrownBy(() -> taskService.updateTask(1L, updateRequest, null))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessageContaining("Cannot update a completed task");
     }
@@ -211,7 +360,7 @@ class TaskServiceTest {
     void updateTask_TaskNotFound_ThrowsException() {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.updateTask(1L, updateRequest))
+        assertThatThrownBy(() -> taskService.updateTask(1L, updateRequest, null))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("not found");
     }
@@ -221,7 +370,7 @@ class TaskServiceTest {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
         when(userRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.updateTask(1L, updateRequest))
+        assertThatThrownBy(() -> taskService.updateTask(1L, updateRequest, null))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("not found");
     }
@@ -229,15 +378,57 @@ class TaskServiceTest {
     @Test
     void updateTaskState_Success() {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        stubStateUpdate();
         when(taskMapper.toResponse(task)).thenReturn(response);
 
-        TaskResponse result = taskService.updateTaskState(1L, stateUpdateRequest);
+        TaskResponse result = taskService.updateTaskState(1L, stateUpdateRequest, null);
 
         assertNotNull(result);
         assertEquals(stateUpdateRequest.state(), task.getState());
         assertEquals(stateUpdateRequest.reason(), task.getStateChangeReason());
-        verify(taskRepository).save(task);
+        verify(taskRepository).updateStateIfUnchanged(eq(1L), eq(TaskState.BACKLOG), eq(0L), eq(TaskState.IN_ANALYSIS),
+                eq("Reason"), any(), isNull());
+        verify(entityManager).refresh(task);
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void updateTaskState_ConcurrentChange_RetriesAgainstFreshVersion() {
+        when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+        stubStateUpdate();
+        doReturn(0).when(taskRepository).updateStateIfUnchanged(eq(1L), any(), eq(0L), any(), any(), any(), any());
+        doAnswer(invocation -> {
+            task.setVersion(1L);
+            return null;
+        }).doNothing().when(entityManager).refresh(task);
+
+        taskService.updateTaskState(1L, stateUpdateRequest, null);
+
+        assertEquals(TaskState.IN_ANALYSIS, task.getState());
+        verify(taskRepository).updateStateIfUnchanged(eq(1L), eq(TaskState.BACKLOG), eq(1L), eq(TaskState.IN_ANALYSIS),
+                eq("Reason"), any(), isNull());
+    }
+
+    @Test
+    void updateTaskState_PersistentConflict_ThrowsOptimisticLockingFailure() {
+        when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.updateStateIfUnchanged(eq(1L), any(), anyLong(), any(), any(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, stateUpdateRequest, null))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(taskRepository, times(3)).updateStateIfUnchanged(eq(1L), any(), anyLong(), any(), any(), any(), any());
+        verify(outboxService, never()).append(any(), any(), any(), any());
+    }
+
+    @Test
+    void updateTaskState_StaleIfMatch_ThrowsPreconditionFailed() {
+        task.setVersion(4L);
+        when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, stateUpdateRequest, 3L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("Task 1 has changed: expected version 3 but it is at version 4");
+        verify(taskRepository, never()).updateStateIfUnchanged(any(), any(), anyLong(), any(), any(), any(), any());
     }
 
     @Test
@@ -245,7 +436,7 @@ class TaskServiceTest {
         task.setState(TaskState.COMPLETED);
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
 
-        assertThatThrownBy(() -> taskService.updateTaskState(1L, stateUpdateRequest))
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, stateUpdateRequest, null))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessageContaining("Cannot change state of a completed task");
     }
@@ -254,11 +445,83 @@ class TaskServiceTest {
     void updateTaskState_TaskNotFound_ThrowsException() {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.updateTaskState(1L, stateUpdateRequest))
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, stateUpdateRequest, null))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("not found");
     }
 
+    @Test
+    void updateTaskState_BlockFromBacklog_ThrowsException() {
+        when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, new TaskStateUpdateRequest(TaskState.BLOCKED, "Waiting"), null))
+                .isInstanceOf(TaskStateException.class)
+                .hasMessage("Only tasks in IN_ANALYSIS or IN_PROGRESS can be blocked");
+    }
+
+    @Test
+    void getAllowedTransitions_Success() {
+        task.setState(TaskState.IN_PROGRESS);
+        when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+
+        TaskTransitionsResponse result = taskService.getAllowedTransitions(1L);
+
+        assertEquals(TaskState.IN_PROGRESS, result.state());
+        assertThat(result.allowedStates()).containsExactlyInAnyOrder(
+                TaskState.IN_ANALYSIS, TaskState.BLOCKED, TaskState.CANCELLED, TaskState.COMPLETED);
+    }
+
+    @Test
+    void getAllowedTransitions_Bulk_ReturnsFoundTasks() {
+        Task completed = Task.builder().id(2L).title("Task 2").state(TaskState.COMPLETED).active(true).build();
+        when(taskRepository.findAllByIdInAndActiveTrue(List.of(1L, 2L, 3L))).thenReturn(List.of(task, completed));
+
+        List<TaskTransitionsResponse> result = taskService.getAllowedTransitions(List.of(1L, 2L, 3L));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).allowedStates()).containsExactlyInAnyOrder(TaskState.IN_ANALYSIS, TaskState.CANCELLED);
+        assertThat(result.get(1).allowedStates()).isEmpty();
+    }
+
+    @Test
+    void updateTaskStates_AppliesValidItemsAndReportsFailures() {
+        Task completed = Task.builder().id(2L).title("Task 2").state(TaskState.COMPLETED).active(true).build();
+        when(taskRepository.findAllByIdInAndActiveTrue(any())).thenReturn(List.of(task, completed));
+
+        TaskBulkStateUpdateResponse result = taskService.updateTaskStates(new TaskBulkStateUpdateRequest(List.of(
+                new TaskBulkStateUpdateItem(1L, TaskState.IN_ANALYSIS, null),
+                new TaskBulkStateUpdateItem(1L, TaskState.IN_PROGRESS, null),
+                new TaskBulkStateUpdateItem(2L, TaskState.IN_PROGRESS, null),
+                new TaskBulkStateUpdateItem(3L, TaskState.IN_ANALYSIS, null)), false));
+
+        assertEquals(2, result.updated());
+        assertEquals(2, result.failed());
+        assertThat(result.results()).extracting(TaskBulkStateUpdateResult::updated)
+                .containsExactly(true, true, false, false);
+        assertThat(result.results().get(2).error()).contains("Cannot change state of a completed task");
+        assertThat(result.results().get(3).error()).contains("Task not found");
+        assertEquals(TaskState.IN_PROGRESS, task.getState());
+        assertEquals(TaskState.COMPLETED, completed.getState());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void updateTaskStates_Atomic_AppliesNothingWhenAnyItemFails() {
+        Task other = Task.builder().id(2L).title("Task 2").state(TaskState.BACKLOG).active(true).build();
+        when(taskRepository.findAllByIdInAndActiveTrue(any())).thenReturn(List.of(task, other));
+
+        TaskBulkStateUpdateResponse result = taskService.updateTaskStates(new TaskBulkStateUpdateRequest(List.of(
+                new TaskBulkStateUpdateItem(1L, TaskState.IN_ANALYSIS, null),
+                new TaskBulkStateUpdateItem(2L, TaskState.COMPLETED, null)), true));
+
+        assertEquals(0, result.updated());
+        assertEquals(1, result.failed());
+        assertThat(result.results()).noneMatch(TaskBulkStateUpdateResult::updated);
+        assertThat(result.results().get(1).error()).contains("Tasks in BACKLOG can only move to IN_ANALYSIS");
+        assertEquals(TaskState.BACKLOG, task.getState());
+        assertEquals(TaskState.BACKLOG, other.getState());
+    }
+
     @Test
     void deleteTask_Success() {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
@@ -268,6 +531,20 @@ class TaskServiceTest {
 
         assertFalse(task.isActive());
         verify(taskRepository).save(task);
+        verify(projectRepository).adjustOpenTaskCount(1L, -1);
+        verify(eventPublisher).publishEvent(new TasksChangedEvent(List.of(1L)));
+        verify(outboxService).append(eq(AggregateType.TASK), eq(1L), eq(ChangeType.DELETED), any());
+    }
+
+    @Test
+    void updateTaskState_ToCompleted_DecrementsOpenTaskCount() {
+        task.setState(TaskState.IN_PROGRESS);
+        when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
+        stubStateUpdate();
+
+        taskService.updateTaskState(1L, new TaskStateUpdateRequest(TaskState.COMPLETED, null), null);
+
+        verify(projectRepository).adjustOpenTaskCount(1L, -1);
     }
 
     @Test
@@ -294,7 +571,7 @@ class TaskServiceTest {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
         TaskStateUpdateRequest invalidRequest = new TaskStateUpdateRequest(TaskState.CANCELLED, null);
 
-        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest))
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest, null))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessageContaining("Reason is required when changing state to CANCELLED");
     }
@@ -305,7 +582,7 @@ class TaskServiceTest {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
         TaskStateUpdateRequest invalidRequest = new TaskStateUpdateRequest(TaskState.BLOCKED, null);
 
-        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest))
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest, null))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessageContaining("Reason is required when changing state to CANCELLED or BLOCKED");
     }
@@ -316,7 +593,7 @@ class TaskServiceTest {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
         TaskStateUpdateRequest invalidRequest = new TaskStateUpdateRequest(TaskState.IN_PROGRESS, "Invalid transition");
 
-        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest))
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest, null))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessageContaining("Tasks in BACKLOG can only move to IN_ANALYSIS");
     }
@@ -327,7 +604,7 @@ class TaskServiceTest {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
         TaskStateUpdateRequest invalidRequest = new TaskStateUpdateRequest(TaskState.COMPLETED, "Invalid transition");
 
-        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest))
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest, null))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessageContaining("Tasks in IN_ANALYSIS can only move to BACKLOG or IN_PROGRESS");
     }
@@ -336,12 +613,12 @@ class TaskServiceTest {
     void updateTaskState_BacklogToCancelled_Success() {
         task.setState(TaskState.BACKLOG);
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        stubStateUpdate();
         when(taskMapper.toResponse(task)).thenReturn(response);
 
         TaskStateUpdateRequest cancelRequest = new TaskStateUpdateRequest(TaskState.CANCELLED, "Cancellation reason");
 
-        TaskResponse result = taskService.updateTaskState(1L, cancelRequest);
+        TaskResponse result = taskService.updateTaskState(1L, cancelRequest, null);
 
         assertNotNull(result);
         assertEquals(TaskState.CANCELLED, task.getState());
@@ -353,7 +630,7 @@ class TaskServiceTest {
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
         TaskStateUpdateRequest invalidRequest = new TaskStateUpdateRequest(TaskState.BLOCKED, "Blocking reason");
 
-        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest))
+        assertThatThrownBy(() -> taskService.updateTaskState(1L, invalidRequest, null))
                 .isInstanceOf(TaskStateException.class)
                 .hasMessageContaining("Only tasks in IN_ANALYSIS or IN_PROGRESS can be blocked");
     }
@@ -362,12 +639,12 @@ class TaskServiceTest {
     void updateTaskState_BlockedForValidState_Success() {
         task.setState(TaskState.IN_PROGRESS);
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        stubStateUpdate();
         when(taskMapper.toResponse(task)).thenReturn(response);
 
         TaskStateUpdateRequest blockRequest = new TaskStateUpdateRequest(TaskState.BLOCKED, "Blocking reason");
 
-        TaskResponse result = taskService.updateTaskState(1L, blockRequest);
+        TaskResponse result = taskService.updateTaskState(1L, blockRequest, null);
 
         assertNotNull(result);
         assertEquals(TaskState.BLOCKED, task.getState());
@@ -377,12 +654,12 @@ class TaskServiceTest {
     void updateTaskState_InProgressToCompleted_Success() {
         task.setState(TaskState.IN_PROGRESS);
         when(taskRepository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        stubStateUpdate();
         when(taskMapper.toResponse(task)).thenReturn(response);
 
         TaskStateUpdateRequest completeRequest = new TaskStateUpdateRequest(TaskState.COMPLETED, "Completion reason");
 
-        TaskResponse result = taskService.updateTaskState(1L, completeRequest);
+        TaskResponse result = taskService.updateTaskState(1L, completeRequest, null);
 
         assertNotNull(result);
         assertEquals(TaskState.COMPLETED, task.getState());
@@ -431,4 +708,17 @@ class TaskServiceTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("not found");
     }
+
+    /**
+     * Lets the conditional state update succeed and applies it to the task, as the refresh that follows would.
+     */
+    private void stubStateUpdate() {
+        when(taskRepository.updateStateIfUnchanged(eq(1L), any(), anyLong(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    task.setState(invocation.getArgument(3));
+                    task.setStateChangeReason(invocation.getArgument(4));
+                    task.setVersion(task.getVersion() + 1);
+                    return 1;
+                });
+    }
 }
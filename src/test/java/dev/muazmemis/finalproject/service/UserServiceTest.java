@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +29,7 @@ import dev.muazmemis.finalproject.mapper.UserMapper;
 import dev.muazmemis.finalproject.model.entity.User;
 import dev.muazmemis.finalproject.model.enums.Role;
 import dev.muazmemis.finalproject.repository.UserRepository;
+import dev.muazmemis.finalproject.security.PrincipalCache;
 import jakarta.persistence.EntityNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +44,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -174,6 +180,40 @@ class UserServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.username()).isEqualTo(userUpdateRequest.username());
         verify(userRepository).save(any(User.class));
+        verify(principalCache, times(2)).evict("testuser");
+    }
+
+    @Test
+    void updateUser_MaskedPassword_KeepsStoredHashWithoutHashing() {
+        UserUpdateRequest request = new UserUpdateRequest("Test", "User", "testuser", UserMapper.MASKED_PASSWORD,
+                Role.TEAM_MEMBER, true);
+        User userUpdate = User.builder().username("testuser").password(UserMapper.MASKED_PASSWORD).build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.existsByUsernameAndActiveTrue("testuser")).thenReturn(true);
+        when(userMapper.toEntity(request)).thenReturn(userUpdate);
+        when(userRepository.save(userUpdate)).thenReturn(userUpdate);
+
+        userService.updateUser(1L, request);
+
+        assertThat(userUpdate.getPassword()).isEqualTo("password");
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    void updateUser_UsernameChanged_EvictsBothPrincipals() {
+        UserUpdateRequest renameRequest = new UserUpdateRequest("Test", "User", "renamed", "newpassword",
+                Role.TEAM_MEMBER, true);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.existsByUsernameAndActiveTrue("renamed")).thenReturn(false);
+        when(userMapper.toEntity(renameRequest)).thenReturn(User.builder().username("renamed").build());
+        when(userRepository.save(any(User.class))).thenReturn(user);
+
+        userService.updateUser(1L, renameRequest);
+
+        verify(principalCache).evict("testuser");
+        verify(principalCache).evict("renamed");
     }
 
     @Test
@@ -221,6 +261,7 @@ class UserServiceTest {
 
         assertFalse(user.isActive());
         verify(userRepository).save(user);
+        verify(principalCache).evict("testuser");
     }
 
     @Test